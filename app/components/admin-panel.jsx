@@ -11,6 +11,7 @@ import { Dialog, DialogContent, DialogDescription, DialogHeader, DialogTitle, Di
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from "../components/ui/select"
 import { Plus, Edit, Trash2, Star } from "lucide-react"
 import { fetchWikipediaImage } from "../utils/wikipedia"
+import { fetchDestinationPage } from "../utils/destinations"
 
 const API_BASE_URL = "http://localhost:8080"
 
@@ -27,11 +28,16 @@ export default function AdminPanel() {
     longitude: "",
   })
 
+  const [nextCursor, setNextCursor] = useState(null)
+
+  const loadPage = async (cursor) => {
+    const page = await fetchDestinationPage(API_BASE_URL, { cursor })
+    setDestinations((prev) => (cursor ? [...prev, ...page.destinations] : page.destinations))
+    setNextCursor(page.nextCursor)
+  }
+
   useEffect(() => {
-    fetch(`${API_BASE_URL}/api/destinations`)
-      .then((res) => res.json())
-      .then(setDestinations)
-      .catch(console.error)
+    loadPage(null).catch(console.error)
   }, [])
 
   const handleAddDestination = async () => {
@@ -161,6 +167,14 @@ export default function AdminPanel() {
           </Card>
         ))}
       </div>
+
+      {nextCursor && (
+        <div className="flex justify-center">
+          <Button variant="outline" onClick={() => loadPage(nextCursor).catch(console.error)}>
+            Load more
+          </Button>
+        </div>
+      )}
     </div>
   )
 }
@@ -15,6 +15,7 @@ import {
 } from "../components/ui/dialog"
 import { Search, MapPin, Star, Heart, Plus, Filter } from "lucide-react"
 import { fetchWikipediaImage } from "../utils/wiki-image"  
+import { fetchDestinationPage } from "../utils/destinations"
 const API_BASE_URL = "http://localhost:8080"
 
 const categories = [
@@ -35,38 +36,65 @@ export default function DestinationSearch({ user }) {
   const [userTrips, setUserTrips] = useState([])
   const [selectedDestination, setSelectedDestination] = useState(null)
   const [isDialogOpen, setIsDialogOpen] = useState(false)
+  const [nextCursor, setNextCursor] = useState(null)
+  const [isLoadingMore, setIsLoadingMore] = useState(false)
 
-  useEffect(() => {
-    fetch(`${API_BASE_URL}/api/destinations`)
-      .then((res) => res.json())
-      .then(async (data) => {
-        const enriched = await Promise.all(
-          data.map(async (dest) => {
-            if (!dest.imageUrl || dest.imageUrl.trim() === "") {
-              const wikiImg = await fetchWikipediaImage(dest.name)
-              return { ...dest, imageUrl: wikiImg || "/fallback.jpg" }
-            }
-            return dest
-          })
-        )
-        setDestinations(enriched)
+  const enrich = (data) =>
+    Promise.all(
+      data.map(async (dest) => {
+        if (!dest.imageUrl || dest.imageUrl.trim() === "") {
+          const wikiImg = await fetchWikipediaImage(dest.name)
+          return { ...dest, imageUrl: wikiImg || "/fallback.jpg" }
+        }
+        return dest
       })
-      .catch((err) => console.error("Failed to fetch destinations:", err))
+    )
+
+  // First page for the current search/category; the server filters, so typing refetches
+  // (debounced) instead of filtering a fully loaded list
+  useEffect(() => {
+    let cancelled = false
+    const timer = setTimeout(() => {
+      fetchDestinationPage(API_BASE_URL, { search: searchTerm.trim(), category: selectedCategory })
+        .then(async (page) => {
+          const enriched = await enrich(page.destinations)
+          if (cancelled) return
+          setDestinations(enriched)
+          setNextCursor(page.nextCursor)
+        })
+        .catch((err) => console.error("Failed to fetch destinations:", err))
+    }, 250)
+    return () => {
+      cancelled = true
+      clearTimeout(timer)
+    }
+  }, [searchTerm, selectedCategory])
 
+  useEffect(() => {
     fetch(`${API_BASE_URL}/api/trips/user/${user.id}`)
       .then((res) => res.json())
       .then(setUserTrips)
       .catch((err) => console.error("Failed to load trips", err))
   }, [user.id])
 
-  const filteredDestinations = destinations.filter((dest) => {
-    const matchesSearch =
-      dest.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-      dest.city.toLowerCase().includes(searchTerm.toLowerCase()) ||
-      dest.country.toLowerCase().includes(searchTerm.toLowerCase())
-    const matchesCategory = selectedCategory === "ALL" || dest.category === selectedCategory
-    return matchesSearch && matchesCategory
-  })
+  const loadMore = async () => {
+    if (!nextCursor || isLoadingMore) return
+    setIsLoadingMore(true)
+    try {
+      const page = await fetchDestinationPage(API_BASE_URL, {
+        search: searchTerm.trim(),
+        category: selectedCategory,
+        cursor: nextCursor,
+      })
+      const enriched = await enrich(page.destinations)
+      setDestinations((prev) => [...prev, ...enriched])
+      setNextCursor(page.nextCursor)
+    } catch (err) {
+      console.error("Failed to fetch destinations:", err)
+    } finally {
+      setIsLoadingMore(false)
+    }
+  }
 
   const toggleFavorite = (destId) => {
     setFavorites((prev) =>
@@ -135,7 +163,7 @@ export default function DestinationSearch({ user }) {
       </div>
 
       <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6">
-        {filteredDestinations.map((destination) => (
+        {destinations.map((destination) => (
           <Card key={destination.id} className="overflow-hidden hover:shadow-lg transition-shadow">
             <div className="relative">
               <img
@@ -186,7 +214,15 @@ export default function DestinationSearch({ user }) {
         ))}
       </div>
 
-      {filteredDestinations.length === 0 && (
+      {nextCursor && (
+        <div className="flex justify-center">
+          <Button variant="outline" onClick={loadMore} disabled={isLoadingMore}>
+            {isLoadingMore ? "Loading..." : "Load more"}
+          </Button>
+        </div>
+      )}
+
+      {destinations.length === 0 && (
         <div className="text-center py-12">
           <MapPin className="h-12 w-12 text-muted-foreground mx-auto mb-4" />
           <h3 className="text-lg font-semibold">No destinations found</h3>
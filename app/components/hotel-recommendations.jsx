@@ -1,6 +1,6 @@
 "use client"
 
-import { useEffect, useState } from "react"
+import { useEffect, useRef, useState } from "react"
 import { Card, CardContent, CardHeader, CardTitle } from "./ui/card"
 import { Loader2 } from "lucide-react"
 import { Button } from "./ui/button"
@@ -11,9 +11,12 @@ import {
   SelectTrigger,
   SelectValue,
 } from "./ui/select"
+import { fetchResolvedHotelImages, HOTEL_PLACEHOLDER_IMAGE } from "../utils/hotel-images"
 
 const API_BASE_URL = "http://localhost:8080"
 const FALLBACK_IMAGE = "/defaultHotel.jpg"
+const IMAGE_POLL_INTERVAL_MS = 3000
+const IMAGE_POLL_ATTEMPTS = 10
 
 export default function HotelRecommendations({ user, tripId }) {
   const [trips, setTrips] = useState([])
@@ -21,6 +24,8 @@ export default function HotelRecommendations({ user, tripId }) {
   const [hotels, setHotels] = useState([])
   const [loading, setLoading] = useState(false)
   const [error, setError] = useState(null)
+  // Tokens the server has answered for (a photo or its final placeholder); not asked again
+  const answeredTokens = useRef(new Set())
 
   const fetchTrips = async () => {
     if (!user?.id) return
@@ -81,6 +86,42 @@ export default function HotelRecommendations({ user, tripId }) {
     }
   }
 
+  // Swap in hotel photos as the server resolves them, polling a bounded number of times
+  useEffect(() => {
+    let cancelled = false
+    let attempts = 0
+    let timer = null
+
+    const poll = async () => {
+      const pending = hotels
+        .filter((h) => h.imageToken && h.imageUrl === HOTEL_PLACEHOLDER_IMAGE && !answeredTokens.current.has(h.imageToken))
+        .map((h) => h.imageToken)
+      if (pending.length === 0 || attempts++ >= IMAGE_POLL_ATTEMPTS) return
+      try {
+        const resolved = await fetchResolvedHotelImages(API_BASE_URL, [...new Set(pending)])
+        if (cancelled) return
+        const tokens = Object.keys(resolved)
+        if (tokens.length > 0) {
+          tokens.forEach((token) => answeredTokens.current.add(token))
+          // The new hotels array re-runs this effect, which polls for whatever is left
+          setHotels((prev) =>
+            prev.map((h) => (h.imageToken && resolved[h.imageToken] ? { ...h, imageUrl: resolved[h.imageToken] } : h))
+          )
+          return
+        }
+      } catch (err) {
+        console.error("Failed to fetch hotel images:", err)
+      }
+      if (!cancelled) timer = setTimeout(poll, IMAGE_POLL_INTERVAL_MS)
+    }
+
+    timer = setTimeout(poll, IMAGE_POLL_INTERVAL_MS)
+    return () => {
+      cancelled = true
+      clearTimeout(timer)
+    }
+  }, [hotels])
+
   // Fetch trips when component mounts or user changes
   useEffect(() => {
     fetchTrips()
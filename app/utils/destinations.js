@@ -0,0 +1,14 @@
+// utils/destinations.js
+// GET /api/destinations is paged: one page per call, plus the X-Next-Cursor to pass
+// back for the next one (null after the last page). Search and category are applied
+// by the server, so a filtered listing only loads the rows it shows.
+export async function fetchDestinationPage(apiBaseUrl, { search, category, cursor, limit = 24 } = {}) {
+  const params = new URLSearchParams({ limit: String(limit) })
+  if (search) params.set("search", search)
+  if (category && category !== "ALL") params.set("category", category)
+  if (cursor) params.set("cursor", cursor)
+
+  const res = await fetch(`${apiBaseUrl}/api/destinations?${params}`)
+  if (!res.ok) throw new Error(`Failed to fetch destinations: ${res.status}`)
+  return { destinations: await res.json(), nextCursor: res.headers.get("X-Next-Cursor") }
+}
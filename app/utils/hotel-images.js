@@ -0,0 +1,13 @@
+// utils/hotel-images.js
+// Hotels without a provider photo come back with the placeholder image and an
+// imageToken; the server resolves the real photo in the background. This asks for
+// the tokens resolved so far and returns { token: imageUrl } (pending ones omitted).
+export const HOTEL_PLACEHOLDER_IMAGE = "deaultHotel.jpg"
+
+export async function fetchResolvedHotelImages(apiBaseUrl, tokens) {
+  if (tokens.length === 0) return {}
+  const params = new URLSearchParams({ tokens: tokens.join(",") })
+  const res = await fetch(`${apiBaseUrl}/api/hotels/images?${params}`)
+  if (!res.ok) throw new Error(`Failed to fetch hotel images: ${res.status}`)
+  return res.json()
+}
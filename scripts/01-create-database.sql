@@ -24,7 +24,8 @@ CREATE TABLE destinations (
     latitude DECIMAL(10, 8),
     longitude DECIMAL(11, 8),
     image_url VARCHAR(500),
-    average_rating DECIMAL(3, 2) DEFAULT 0,
+    image_status ENUM('PENDING', 'READY', 'NOT_FOUND', 'FAILED') DEFAULT 'READY',
+    average_rating DECIMAL(3, 2) NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
@@ -95,10 +96,14 @@ CREATE TABLE hotels (
     name VARCHAR(255) NOT NULL,
     address TEXT,
     rating DECIMAL(2, 1),
-    price_range ENUM('BUDGET', 'MID_RANGE', 'LUXURY') NOT NULL,
+    price_range ENUM('BUDGET', 'MID_RANGE', 'LUXURY'),
     amenities JSON,
     contact_info JSON,
     image_url VARCHAR(500),
+    provider_xid VARCHAR(64) UNIQUE,
+    latitude DECIMAL(10, 8),
+    longitude DECIMAL(11, 8),
+    last_fetched_at TIMESTAMP NULL,
     FOREIGN KEY (destination_id) REFERENCES destinations(id) ON DELETE CASCADE
 );
 
@@ -160,6 +165,75 @@ CREATE TABLE saved_trips (
     UNIQUE KEY unique_user_trip (user_id, trip_id)
 );
 
+-- Cached OpenTripMap radius searches (one row per geohash tile/radius/kinds)
+CREATE TABLE place_search_cache (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    cache_key VARCHAR(150) NOT NULL UNIQUE,
+    geohash VARCHAR(12) NOT NULL,
+    response_json MEDIUMTEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Precomputed hotel recommendations per trip, tagged with the destination-set hash
+CREATE TABLE trip_hotel_recommendations (
+    trip_id BIGINT PRIMARY KEY,
+    destination_hash VARCHAR(64) NOT NULL,
+    destination_ids VARCHAR(1000),
+    hotels_json MEDIUMTEXT NOT NULL,
+    computed_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (trip_id) REFERENCES trips(id) ON DELETE CASCADE
+);
+
+-- Outbox of pending Wikipedia image lookups for destinations
+CREATE TABLE image_enrichment_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    destination_id BIGINT NOT NULL UNIQUE,
+    title VARCHAR(255) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    requested_at TIMESTAMP NOT NULL,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    FOREIGN KEY (destination_id) REFERENCES destinations(id) ON DELETE CASCADE
+);
+
+-- Cached Wikipedia thumbnail lookups; NULL thumbnail_url records "no thumbnail"
+CREATE TABLE wikipedia_thumbnail_cache (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    title_key VARCHAR(255) NOT NULL UNIQUE,
+    thumbnail_url VARCHAR(500),
+    fetched_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Checkpoint of the resumable destination image backfill job
+CREATE TABLE image_backfill_checkpoint (
+    job_name VARCHAR(64) PRIMARY KEY,
+    last_destination_id BIGINT NOT NULL DEFAULT 0,
+    processed BIGINT NOT NULL DEFAULT 0,
+    updated BIGINT NOT NULL DEFAULT 0,
+    not_found BIGINT NOT NULL DEFAULT 0,
+    failed BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(16) NOT NULL,
+    started_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL
+);
+
+-- Provider search regions (geohash tile + radius) fully crawled into the hotels catalog
+CREATE TABLE hotel_catalog_crawls (
+    region_key VARCHAR(40) PRIMARY KEY,
+    geohash VARCHAR(12) NOT NULL,
+    hotel_count INT NOT NULL,
+    crawled_at TIMESTAMP NOT NULL
+);
+
+-- Resolved hotel image URLs by image token (hash of hotel name and address)
+CREATE TABLE hotel_image_cache (
+    token VARCHAR(20) PRIMARY KEY,
+    image_url VARCHAR(500) NOT NULL,
+    resolved_at TIMESTAMP NOT NULL
+);
+
 -- Indexes for better performance
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_destinations_category ON destinations(category);
@@ -170,3 +244,8 @@ CREATE INDEX idx_expenses_trip_id ON expenses(trip_id);
 CREATE INDEX idx_reviews_status ON reviews(status);
 CREATE INDEX idx_notifications_user_id ON notifications(user_id);
 CREATE INDEX idx_notifications_scheduled ON notifications(scheduled_for);
+CREATE INDEX idx_place_search_cache_created_at ON place_search_cache(created_at);
+CREATE INDEX idx_hotels_location ON hotels(latitude, longitude);
+CREATE INDEX idx_image_enrichment_next_attempt ON image_enrichment_outbox(next_attempt_at);
+CREATE INDEX idx_destinations_rating_id ON destinations(average_rating DESC, id ASC);
+CREATE INDEX idx_destinations_category_rating_id ON destinations(category, average_rating DESC, id ASC);
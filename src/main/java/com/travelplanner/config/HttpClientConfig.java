@@ -0,0 +1,52 @@
+package com.travelplanner.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public ExecutorService outboundHttpExecutor(@Value("${outbound.io-threads:4}") int threads) {
+        return Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("outbound-http-"));
+    }
+
+    // One pooled client for every upstream provider; connections are kept alive and reused.
+    @Bean
+    @Primary
+    public HttpClient outboundHttpClient(
+            ExecutorService outboundHttpExecutor,
+            @Value("${outbound.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${outbound.keep-alive-seconds:60}") String keepAliveSeconds) {
+        // Read once when the JDK connection pool initialises; an explicit -D flag still wins.
+        if (System.getProperty("jdk.httpclient.keepalive.timeout") == null) {
+            System.setProperty("jdk.httpclient.keepalive.timeout", keepAliveSeconds);
+        }
+        return newClient(outboundHttpExecutor, connectTimeoutMs, HttpClient.Redirect.NORMAL);
+    }
+
+    // For providers that must vet every hop themselves (outbound.providers.{name}.follow-redirects=false)
+    @Bean
+    public HttpClient outboundNoRedirectHttpClient(
+            ExecutorService outboundHttpExecutor,
+            @Value("${outbound.connect-timeout-ms:3000}") long connectTimeoutMs) {
+        return newClient(outboundHttpExecutor, connectTimeoutMs, HttpClient.Redirect.NEVER);
+    }
+
+    private static HttpClient newClient(ExecutorService executor, long connectTimeoutMs, HttpClient.Redirect redirect) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(redirect)
+                .executor(executor)
+                .build();
+    }
+}
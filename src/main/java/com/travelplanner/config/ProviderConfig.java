@@ -0,0 +1,160 @@
+package com.travelplanner.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.travelplanner.util.TokenBucketRateLimiter;
+
+@Configuration
+public class ProviderConfig {
+
+    @Bean
+    public TokenBucketRateLimiter openTripMapRateLimiter(
+            @Value("${opentripmap.rate-limit.requests-per-second:8}") double requestsPerSecond) {
+        return new TokenBucketRateLimiter("opentripmap", requestsPerSecond, (int) Math.ceil(requestsPerSecond));
+    }
+
+    @Bean
+    public TokenBucketRateLimiter wikipediaRateLimiter(
+            @Value("${wikipedia.rate-limit.requests-per-second:5}") double requestsPerSecond) {
+        return new TokenBucketRateLimiter("wikipedia", requestsPerSecond, (int) Math.ceil(requestsPerSecond));
+    }
+
+    @Bean
+    public TokenBucketRateLimiter unsplashRateLimiter(
+            @Value("${unsplash.rate-limit.requests-per-second:1}") double requestsPerSecond) {
+        return new TokenBucketRateLimiter("unsplash", requestsPerSecond, (int) Math.ceil(requestsPerSecond));
+    }
+
+    // Bounded pool for provider detail lookups; when the queue is full the
+    // request thread runs the lookup itself instead of failing the recommendation.
+    @Bean
+    public ExecutorService hotelLookupExecutor(
+            @Value("${hotels.lookup.pool-size:8}") int poolSize,
+            @Value("${hotels.lookup.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("hotel-lookup-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // Best-effort background refreshes for stale cache entries; rejected (and skipped) when saturated.
+    @Bean
+    public ExecutorService hotelRefreshExecutor(
+            @Value("${hotels.detail-cache.refresh-pool-size:2}") int poolSize) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(200),
+                new CustomizableThreadFactory("hotel-refresh-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // Writes hotel details evicted from memory to the spill directory; a spill is dropped when saturated.
+    @Bean
+    public ExecutorService hotelSpillExecutor(
+            @Value("${hotels.detail-cache.spill-queue-capacity:500}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("hotel-spill-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // Runs whole recommendation jobs; submissions beyond the queue limit are rejected.
+    @Bean
+    public ExecutorService hotelJobExecutor(
+            @Value("${hotels.jobs.pool-size:4}") int poolSize,
+            @Value("${hotels.jobs.queue-capacity:50}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                poolSize, poolSize, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("hotel-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Single writer that upserts provider results into the local hotel catalog.
+    @Bean
+    public ExecutorService hotelIngestExecutor(
+            @Value("${hotels.catalog.ingest-queue-capacity:100}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("hotel-ingest-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Background recompute of stored trip recommendations after destination changes.
+    @Bean
+    public ExecutorService hotelPrecomputeExecutor(
+            @Value("${hotels.precompute.pool-size:1}") int poolSize,
+            @Value("${hotels.precompute.queue-capacity:500}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                poolSize, poolSize, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("hotel-precompute-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // One radius search per destination cluster of a multi-city trip. Kept apart from the
+    // lookup pool because each search blocks on its own lookups there.
+    @Bean
+    public ExecutorService hotelClusterExecutor(
+            @Value("${hotels.cluster.pool-size:4}") int poolSize,
+            @Value("${hotels.cluster.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("hotel-cluster-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // Wikipedia lookups for queued destination images; the outbox worker waits for each batch.
+    @Bean
+    public ExecutorService imageEnrichmentExecutor(
+            @Value("${destinations.images.max-concurrency:4}") int maxConcurrency) {
+        return new ThreadPoolExecutor(
+                maxConcurrency, maxConcurrency, 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("image-enrichment-"));
+    }
+
+    // Thumbnail lookups for the admin image backfill; the job waits for each page.
+    @Bean
+    public ExecutorService imageBackfillExecutor(
+            @Value("${destinations.backfill.concurrency:4}") int concurrency) {
+        return new ThreadPoolExecutor(
+                concurrency, concurrency, 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("image-backfill-lookup-"));
+    }
+
+    // CPU-bound image resizing, sized well below the core count so request threads keep
+    // their CPU; when saturated, callers are served the original image.
+    @Bean
+    public ExecutorService imageResizeExecutor(
+            @Value("${images.variants.pool-size:2}") int poolSize,
+            @Value("${images.variants.queue-capacity:32}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                poolSize, poolSize, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-resize-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,40 @@
+package com.travelplanner.controller;
+
+import com.travelplanner.dto.ImageBackfillResponse;
+import com.travelplanner.service.ImageBackfillService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*")
+public class AdminController {
+
+    @Autowired
+    private ImageBackfillService imageBackfillService;
+
+    // Start or resume the destination image backfill (restart=true begins from the first destination)
+    @PostMapping("/image-backfill")
+    public ResponseEntity<ImageBackfillResponse> startImageBackfill(
+            @RequestParam(defaultValue = "false") boolean restart) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(imageBackfillService.start(restart));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(imageBackfillService.getProgress());
+        }
+    }
+
+    // Stop after the page in progress; progress is kept for the next start
+    @PostMapping("/image-backfill/stop")
+    public ResponseEntity<ImageBackfillResponse> stopImageBackfill() {
+        return ResponseEntity.ok(imageBackfillService.stop());
+    }
+
+    // Progress and throughput of the current or last run
+    @GetMapping("/image-backfill")
+    public ResponseEntity<ImageBackfillResponse> getImageBackfillProgress() {
+        return ResponseEntity.ok(imageBackfillService.getProgress());
+    }
+}
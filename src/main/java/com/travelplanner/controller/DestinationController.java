@@ -1,10 +1,14 @@
 package com.travelplanner.controller;
 
+import com.travelplanner.dto.DestinationPage;
 import com.travelplanner.dto.DestinationRequest;
 import com.travelplanner.dto.DestinationResponse;
+import com.travelplanner.dto.DestinationSuggestion;
+import com.travelplanner.dto.NearbyDestinationResponse;
 import com.travelplanner.entity.Destination;
 import com.travelplanner.service.DestinationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,15 +19,52 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class DestinationController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private DestinationService destinationService;
 
+    // Paged: the body stays a plain list; X-Next-Cursor carries the cursor for the next page
     @GetMapping
     public ResponseEntity<List<DestinationResponse>> getAllDestinations(
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) String category) {
-        List<DestinationResponse> destinations = destinationService.searchDestinations(search, category);
-        return ResponseEntity.ok(destinations);
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        DestinationPage page;
+        try {
+            page = destinationService.searchDestinations(search, category, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        return response.body(page.getDestinations());
+    }
+
+    // Typeahead: a few id/name/city entries whose words start with q, best rated first
+    @GetMapping("/suggest")
+    public ResponseEntity<List<DestinationSuggestion>> suggestDestinations(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(destinationService.suggestDestinations(q, limit));
+    }
+
+    // Destinations around a point, nearest first; 503 until the in-memory index is built
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyDestinationResponse>> getNearbyDestinations(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "50") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(destinationService.findNearby(lat, lon, radiusKm, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
 
     @GetMapping("/{id}")
@@ -1,17 +1,31 @@
 package com.travelplanner.controller;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.travelplanner.dto.HotelJobResponse;
 import com.travelplanner.dto.HotelResponse;
-import com.travelplanner.service.HotelService;
+import com.travelplanner.service.HotelImageService;
+import com.travelplanner.service.HotelRecommendationJob;
+import com.travelplanner.service.HotelRecommendationJobService;
+import com.travelplanner.service.HotelStreamService;
+import com.travelplanner.service.TripRecommendationService;
 
 @RestController
 @RequestMapping("/api/hotels")
@@ -19,13 +33,61 @@ import com.travelplanner.service.HotelService;
 public class HotelController {
 
     @Autowired
-    private HotelService hotelService;
+    private TripRecommendationService tripRecommendationService;
 
-    
+    @Autowired
+    private HotelRecommendationJobService jobService;
+
+    @Autowired
+    private HotelStreamService hotelStreamService;
+
+    @Autowired
+    private HotelImageService hotelImageService;
 
     @GetMapping("/recommendations")
     public ResponseEntity<List<HotelResponse>> getHotelRecommendationsByTrip(@RequestParam Long tripId) {
-        List<HotelResponse> hotels = hotelService.getRecommendationsByTrip(tripId);
+        List<HotelResponse> hotels = tripRecommendationService.getRecommendations(tripId);
         return ResponseEntity.ok(hotels);
     }
+
+    // Resolved image URLs for hotels returned with an imageToken; pending tokens are omitted
+    @GetMapping("/images")
+    public ResponseEntity<Map<String, String>> getResolvedImages(@RequestParam List<String> tokens) {
+        return ResponseEntity.ok(hotelImageService.resolvedUrls(tokens));
+    }
+
+    // Stream hotels as they resolve, followed by the final ranking (text/event-stream)
+    @GetMapping(value = "/recommendations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamHotelRecommendations(@RequestParam Long tripId) {
+        try {
+            return ResponseEntity.ok(hotelStreamService.stream(tripId));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+    }
+
+    // Start (or join) a background recommendation job for a trip
+    @PostMapping("/recommendations/jobs")
+    public ResponseEntity<HotelJobResponse> startRecommendationJob(@RequestParam Long tripId) {
+        try {
+            HotelRecommendationJob job = jobService.submit(tripId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/api/hotels/recommendations/jobs/" + job.getId()))
+                    .body(jobService.toResponse(job));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+    }
+
+    // Poll a recommendation job for status, partial results and ETA
+    @GetMapping("/recommendations/jobs/{jobId}")
+    public ResponseEntity<HotelJobResponse> getRecommendationJob(@PathVariable String jobId) {
+        return jobService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(jobService.toResponse(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
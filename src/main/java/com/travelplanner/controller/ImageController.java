@@ -0,0 +1,112 @@
+package com.travelplanner.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelplanner.exception.ProviderUnavailableException;
+import com.travelplanner.service.ImageProxyService;
+import com.travelplanner.service.ImageProxyService.CachedImage;
+import com.travelplanner.service.ImageVariantService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/images")
+@CrossOrigin(origins = "*")
+public class ImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ImageProxyService imageProxyService;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Value("${images.proxy.max-age-seconds:31536000}")
+    private long maxAgeSeconds;
+
+    // Cached copy of an upstream image; the key comes from URLs rewritten by ImageProxyService.
+    // w requests a resized variant (rounded up to a configured width), format=jpg|png its encoding.
+    @GetMapping("/{key}")
+    public void getImage(@PathVariable String key,
+                         @RequestParam(required = false) Integer w,
+                         @RequestParam(required = false) String format,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CachedImage image;
+        try {
+            image = imageProxyService.get(key);
+        } catch (ProviderUnavailableException e) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "30");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        } catch (IOException | UncheckedIOException e) {
+            response.sendError(HttpServletResponse.SC_BAD_GATEWAY);
+            return;
+        }
+        if (image == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        // Without a variant yet, the original stands in for this response only: the
+        // ?w= URL must not be pinned to it, so the next request can get the real variant
+        boolean standIn = false;
+        if (w != null && w > 0) {
+            CachedImage variant = imageVariantService.variant(image, w, format);
+            standIn = variant == null;
+            if (variant != null) image = variant;
+        }
+
+        String etag = "\"" + image.getContentHash() + "\"";
+        if (standIn) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        } else {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + maxAgeSeconds + ", immutable");
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (!standIn && ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(image.getContentType());
+        response.setContentLengthLong(image.getSize());
+
+        // Tomcat's NIO connector can hand the file to the kernel (sendfile) after the request returns
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.getFile().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, image.getSize());
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(image.getFile(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < image.getSize()) {
+                position += file.transferTo(position, image.getSize() - position, out);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.travelplanner.controller;
+
+import com.travelplanner.dto.CacheMetricsResponse;
+import com.travelplanner.dto.ProviderMetricsResponse;
+import com.travelplanner.service.DestinationResponseCache;
+import com.travelplanner.service.OutboundHttpClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/metrics")
+@CrossOrigin(origins = "*")
+public class MetricsController {
+
+    @Autowired
+    private OutboundHttpClient outboundHttpClient;
+
+    @Autowired
+    private DestinationResponseCache destinationResponseCache;
+
+    // Per-provider latency and error counters for outbound API calls
+    @GetMapping("/outbound")
+    public ResponseEntity<List<ProviderMetricsResponse>> getOutboundMetrics() {
+        return ResponseEntity.ok(outboundHttpClient.metrics());
+    }
+
+    // Hit, miss and eviction counters for the DestinationResponse cache
+    @GetMapping("/destination-cache")
+    public ResponseEntity<CacheMetricsResponse> getDestinationCacheMetrics() {
+        return ResponseEntity.ok(destinationResponseCache.metrics());
+    }
+}
@@ -66,6 +66,15 @@ public class TripController {
         return ResponseEntity.ok("Destination added to trip");
     }
 
+    // Remove a destination from a trip
+    @DeleteMapping("/{tripId}/destinations/{destinationId}")
+    public ResponseEntity<String> removeDestinationFromTrip(
+            @PathVariable Long tripId,
+            @PathVariable Long destinationId) {
+        tripService.removeDestinationFromTrip(tripId, destinationId);
+        return ResponseEntity.ok("Destination removed from trip");
+    }
+
     // Get all destinations for a trip
     @GetMapping("/{tripId}/destinations")
     public ResponseEntity<List<DestinationResponse>> getTripDestinations(@PathVariable Long tripId) {
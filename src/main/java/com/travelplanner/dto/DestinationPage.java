@@ -0,0 +1,18 @@
+package com.travelplanner.dto;
+
+import java.util.List;
+
+// One page of the destination listing; nextCursor is null on the last page
+public class DestinationPage {
+    private final List<DestinationResponse> destinations;
+    private final String nextCursor;
+
+    public DestinationPage(List<DestinationResponse> destinations, String nextCursor) {
+        this.destinations = destinations;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<DestinationResponse> getDestinations() { return destinations; }
+
+    public String getNextCursor() { return nextCursor; }
+}
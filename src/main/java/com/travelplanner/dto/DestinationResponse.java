@@ -2,7 +2,10 @@ package com.travelplanner.dto;
 
 import java.math.BigDecimal;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.travelplanner.entity.Destination.Category;
+import com.travelplanner.entity.Destination.ImageStatus;
+import com.travelplanner.service.ImageProxyService;
 
 public class DestinationResponse {
     private Long id;
@@ -14,11 +17,26 @@ public class DestinationResponse {
     private BigDecimal latitude;
     private BigDecimal longitude;
     private String imageUrl;
+    private ImageStatus imageStatus;
     private BigDecimal averageRating;
 
     // Constructors
     public DestinationResponse() {}
 
+    public DestinationResponse(DestinationResponse other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.country = other.country;
+        this.city = other.city;
+        this.description = other.description;
+        this.category = other.category;
+        this.latitude = other.latitude;
+        this.longitude = other.longitude;
+        this.imageUrl = other.imageUrl;
+        this.imageStatus = other.imageStatus;
+        this.averageRating = other.averageRating;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -44,9 +62,13 @@ public class DestinationResponse {
     public BigDecimal getLongitude() { return longitude; }
     public void setLongitude(BigDecimal longitude) { this.longitude = longitude; }
 
+    @JsonSerialize(using = ImageProxyService.AbsoluteUrlSerializer.class)
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
 
+    public ImageStatus getImageStatus() { return imageStatus; }
+    public void setImageStatus(ImageStatus imageStatus) { this.imageStatus = imageStatus; }
+
     public BigDecimal getAverageRating() { return averageRating; }
     public void setAverageRating(BigDecimal averageRating) { this.averageRating = averageRating; }
 }
@@ -0,0 +1,20 @@
+package com.travelplanner.dto;
+
+// Lightweight typeahead entry; shared between requests, so it has no setters
+public class DestinationSuggestion {
+    private final Long id;
+    private final String name;
+    private final String city;
+
+    public DestinationSuggestion(Long id, String name, String city) {
+        this.id = id;
+        this.name = name;
+        this.city = city;
+    }
+
+    public Long getId() { return id; }
+
+    public String getName() { return name; }
+
+    public String getCity() { return city; }
+}
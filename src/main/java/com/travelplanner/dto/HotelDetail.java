@@ -0,0 +1,73 @@
+package com.travelplanner.dto;
+
+import org.json.JSONObject;
+
+/**
+ * Parsed subset of an OpenTripMap place detail (/places/xid/{xid}).
+ */
+public class HotelDetail {
+    private final String xid;
+    private final String name;
+    private final String address;
+    private final Double latitude;
+    private final Double longitude;
+    private final double rating;
+    private final String previewUrl;
+
+    public HotelDetail(String xid, String name, String address, Double latitude, Double longitude,
+                       double rating, String previewUrl) {
+        this.xid = xid;
+        this.name = name;
+        this.address = address;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.rating = rating;
+        this.previewUrl = previewUrl;
+    }
+
+    public static HotelDetail fromOpenTripMap(String xid, JSONObject detail) {
+        String name = detail.optString("name", "Unnamed Hotel");
+        JSONObject addressJson = detail.optJSONObject("address");
+        String address = addressJson != null ? addressJson.optString("road", "No address") : "No address";
+
+        JSONObject point = detail.optJSONObject("point");
+        Double lat = point != null && point.has("lat") ? point.optDouble("lat") : null;
+        Double lon = point != null && point.has("lon") ? point.optDouble("lon") : null;
+
+        JSONObject preview = detail.optJSONObject("preview");
+        String previewUrl = preview != null && preview.has("source") ? preview.optString("source") : null;
+
+        return new HotelDetail(xid, name, address, lat, lon, detail.optDouble("rate", 0), previewUrl);
+    }
+
+    public static HotelDetail fromJson(JSONObject json) {
+        return new HotelDetail(
+                json.getString("xid"),
+                json.optString("name", "Unnamed Hotel"),
+                json.optString("address", "No address"),
+                json.has("lat") ? json.optDouble("lat") : null,
+                json.has("lon") ? json.optDouble("lon") : null,
+                json.optDouble("rating", 0),
+                json.has("previewUrl") ? json.optString("previewUrl") : null);
+    }
+
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        json.put("xid", xid);
+        json.put("name", name);
+        json.put("address", address);
+        if (latitude != null) json.put("lat", latitude.doubleValue());
+        if (longitude != null) json.put("lon", longitude.doubleValue());
+        json.put("rating", rating);
+        if (previewUrl != null) json.put("previewUrl", previewUrl);
+        return json;
+    }
+
+    public String getXid() { return xid; }
+    public String getName() { return name; }
+    public String getAddress() { return address; }
+    public Double getLatitude() { return latitude; }
+    public Double getLongitude() { return longitude; }
+    public double getRating() { return rating; }
+    public String getPreviewUrl() { return previewUrl; }
+}
@@ -0,0 +1,41 @@
+package com.travelplanner.dto;
+
+import java.util.List;
+
+public class HotelJobResponse {
+    private String jobId;
+    private Long tripId;
+    private String status;
+    private int completed;
+    private int total;
+    private Long etaSeconds;
+    private String error;
+    private List<HotelResponse> hotels;
+
+    public HotelJobResponse() {}
+
+    // Getters & Setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public Long getTripId() { return tripId; }
+    public void setTripId(Long tripId) { this.tripId = tripId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public int getCompleted() { return completed; }
+    public void setCompleted(int completed) { this.completed = completed; }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public Long getEtaSeconds() { return etaSeconds; }
+    public void setEtaSeconds(Long etaSeconds) { this.etaSeconds = etaSeconds; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public List<HotelResponse> getHotels() { return hotels; }
+    public void setHotels(List<HotelResponse> hotels) { this.hotels = hotels; }
+}
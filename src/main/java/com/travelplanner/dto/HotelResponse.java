@@ -1,7 +1,14 @@
 package com.travelplanner.dto;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.travelplanner.service.ImageProxyService;
+
 public class HotelResponse {
     private String name;
     private String location;
@@ -10,6 +17,8 @@ public class HotelResponse {
     private String imageUrl;
     private Map<String, Double> distancesFromDestinations;
     private String mapUrl;
+    // Set while imageUrl is a placeholder; resolve via /api/hotels/images
+    private String imageToken;
 
     public HotelResponse() {}
 
@@ -31,6 +40,52 @@ public class HotelResponse {
         this.mapUrl = mapUrl;
     }
 
+    public static HotelResponse fromJson(JSONObject json) {
+        // Distances are stored as an array so the destination order survives the round trip
+        Map<String, Double> distances = new LinkedHashMap<>();
+        JSONArray distanceArray = json.optJSONArray("distances");
+        if (distanceArray != null) {
+            for (int i = 0; i < distanceArray.length(); i++) {
+                JSONObject entry = distanceArray.getJSONObject(i);
+                distances.put(entry.getString("destination"), entry.optDouble("km", 0));
+            }
+        }
+
+        HotelResponse hotel = new HotelResponse(
+                json.optString("name", null),
+                json.optString("location", null),
+                json.optDouble("rating", 0),
+                json.optDouble("averageDistance", 0),
+                json.optString("imageUrl", null),
+                distances,
+                json.optString("mapUrl", null));
+        hotel.setImageToken(json.optString("imageToken", null));
+        return hotel;
+    }
+
+    public JSONObject toJson() {
+        JSONArray distanceArray = new JSONArray();
+        if (distancesFromDestinations != null) {
+            for (Map.Entry<String, Double> entry : distancesFromDestinations.entrySet()) {
+                JSONObject distance = new JSONObject();
+                distance.put("destination", entry.getKey());
+                distance.put("km", entry.getValue().doubleValue());
+                distanceArray.put(distance);
+            }
+        }
+
+        JSONObject json = new JSONObject();
+        json.put("name", name);
+        json.put("location", location);
+        json.put("rating", rating);
+        json.put("averageDistance", averageDistance);
+        if (imageUrl != null) json.put("imageUrl", imageUrl);
+        json.put("distances", distanceArray);
+        if (mapUrl != null) json.put("mapUrl", mapUrl);
+        if (imageToken != null) json.put("imageToken", imageToken);
+        return json;
+    }
+
     // Getters & Setters
 
     public String getName() {
@@ -65,6 +120,7 @@ public class HotelResponse {
         this.averageDistance = averageDistance;
     }
 
+    @JsonSerialize(using = ImageProxyService.AbsoluteUrlSerializer.class)
     public String getImageUrl() {
         return imageUrl;
     }
@@ -88,4 +144,12 @@ public class HotelResponse {
     public void setMapUrl(String mapUrl) {
         this.mapUrl = mapUrl;
     }
+
+    public String getImageToken() {
+        return imageToken;
+    }
+
+    public void setImageToken(String imageToken) {
+        this.imageToken = imageToken;
+    }
 }
@@ -0,0 +1,45 @@
+package com.travelplanner.dto;
+
+import java.time.LocalDateTime;
+
+public class ImageBackfillResponse {
+    private String status;
+    private Long lastDestinationId;
+    private long processed;
+    private long updated;
+    private long notFound;
+    private long failed;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private double destinationsPerSecond;
+
+    public ImageBackfillResponse() {}
+
+    // Getters & Setters
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Long getLastDestinationId() { return lastDestinationId; }
+    public void setLastDestinationId(Long lastDestinationId) { this.lastDestinationId = lastDestinationId; }
+
+    public long getProcessed() { return processed; }
+    public void setProcessed(long processed) { this.processed = processed; }
+
+    public long getUpdated() { return updated; }
+    public void setUpdated(long updated) { this.updated = updated; }
+
+    public long getNotFound() { return notFound; }
+    public void setNotFound(long notFound) { this.notFound = notFound; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public double getDestinationsPerSecond() { return destinationsPerSecond; }
+    public void setDestinationsPerSecond(double destinationsPerSecond) { this.destinationsPerSecond = destinationsPerSecond; }
+}
@@ -0,0 +1,20 @@
+package com.travelplanner.dto;
+
+public class NearbyDestinationResponse {
+    private DestinationResponse destination;
+    private double distanceKm;
+
+    public NearbyDestinationResponse() {}
+
+    public NearbyDestinationResponse(DestinationResponse destination, double distanceKm) {
+        this.destination = destination;
+        this.distanceKm = distanceKm;
+    }
+
+    // Getters & Setters
+    public DestinationResponse getDestination() { return destination; }
+    public void setDestination(DestinationResponse destination) { this.destination = destination; }
+
+    public double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(double distanceKm) { this.distanceKm = distanceKm; }
+}
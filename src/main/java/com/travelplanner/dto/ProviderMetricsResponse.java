@@ -0,0 +1,43 @@
+package com.travelplanner.dto;
+
+public class ProviderMetricsResponse {
+    private String provider;
+    private long requests;
+    private long errors;
+    private long rateLimited;
+    private long rejected;
+    private String circuitState;
+    private long inFlight;
+    private double averageLatencyMs;
+    private double maxLatencyMs;
+
+    public ProviderMetricsResponse() {}
+
+    // Getters and Setters
+    public String getProvider() { return provider; }
+    public void setProvider(String provider) { this.provider = provider; }
+
+    public long getRequests() { return requests; }
+    public void setRequests(long requests) { this.requests = requests; }
+
+    public long getErrors() { return errors; }
+    public void setErrors(long errors) { this.errors = errors; }
+
+    public long getRateLimited() { return rateLimited; }
+    public void setRateLimited(long rateLimited) { this.rateLimited = rateLimited; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public String getCircuitState() { return circuitState; }
+    public void setCircuitState(String circuitState) { this.circuitState = circuitState; }
+
+    public long getInFlight() { return inFlight; }
+    public void setInFlight(long inFlight) { this.inFlight = inFlight; }
+
+    public double getAverageLatencyMs() { return averageLatencyMs; }
+    public void setAverageLatencyMs(double averageLatencyMs) { this.averageLatencyMs = averageLatencyMs; }
+
+    public double getMaxLatencyMs() { return maxLatencyMs; }
+    public void setMaxLatencyMs(double maxLatencyMs) { this.maxLatencyMs = maxLatencyMs; }
+}
@@ -42,7 +42,13 @@ public class Destination {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
-    @Column(name = "average_rating", precision = 3, scale = 2)
+    // PENDING while a Wikipedia lookup is queued in image_enrichment_outbox
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status", length = 16)
+    private ImageStatus imageStatus = ImageStatus.READY;
+
+    // NOT NULL: the keyset listing compares ratings, and NULL would drop out of every page
+    @Column(name = "average_rating", nullable = false, precision = 3, scale = 2)
     private BigDecimal averageRating = BigDecimal.ZERO;
 
     @OneToMany(mappedBy = "destination", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -104,8 +110,13 @@ public class Destination {
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
 
+    public ImageStatus getImageStatus() { return imageStatus; }
+    public void setImageStatus(ImageStatus imageStatus) { this.imageStatus = imageStatus; }
+
     public BigDecimal getAverageRating() { return averageRating; }
-    public void setAverageRating(BigDecimal averageRating) { this.averageRating = averageRating; }
+    public void setAverageRating(BigDecimal averageRating) {
+        this.averageRating = averageRating != null ? averageRating : BigDecimal.ZERO;
+    }
 
     public List<TripDestination> getTripDestinations() { return tripDestinations; }
     public void setTripDestinations(List<TripDestination> tripDestinations) { this.tripDestinations = tripDestinations; }
@@ -128,4 +139,8 @@ public class Destination {
     public enum Category {
         BEACH, ADVENTURE, HISTORY, CULTURE, NATURE, URBAN
     }
+
+    public enum ImageStatus {
+        PENDING, READY, NOT_FOUND, FAILED
+    }
 }
@@ -2,10 +2,13 @@ package com.travelplanner.entity;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "hotels")
+@Table(name = "hotels", indexes = {
+        @Index(name = "idx_hotels_location", columnList = "latitude, longitude")
+})
 public class Hotel {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,7 +28,8 @@ public class Hotel {
     private BigDecimal rating;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "price_range", nullable = false)
+    // Null for hotels ingested from the place provider, which has no price data
+    @Column(name = "price_range")
     private PriceRange priceRange;
 
     @Column(columnDefinition = "JSON")
@@ -37,6 +41,19 @@ public class Hotel {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
+    // OpenTripMap xid for hotels ingested from the provider
+    @Column(name = "provider_xid", unique = true, length = 64)
+    private String providerXid;
+
+    @Column(precision = 10, scale = 8)
+    private BigDecimal latitude;
+
+    @Column(precision = 11, scale = 8)
+    private BigDecimal longitude;
+
+    @Column(name = "last_fetched_at")
+    private LocalDateTime lastFetchedAt;
+
     @OneToMany(mappedBy = "hotel", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Review> reviews;
 
@@ -78,6 +95,18 @@ public class Hotel {
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
 
+    public String getProviderXid() { return providerXid; }
+    public void setProviderXid(String providerXid) { this.providerXid = providerXid; }
+
+    public BigDecimal getLatitude() { return latitude; }
+    public void setLatitude(BigDecimal latitude) { this.latitude = latitude; }
+
+    public BigDecimal getLongitude() { return longitude; }
+    public void setLongitude(BigDecimal longitude) { this.longitude = longitude; }
+
+    public LocalDateTime getLastFetchedAt() { return lastFetchedAt; }
+    public void setLastFetchedAt(LocalDateTime lastFetchedAt) { this.lastFetchedAt = lastFetchedAt; }
+
     public List<Review> getReviews() { return reviews; }
     public void setReviews(List<Review> reviews) { this.reviews = reviews; }
 
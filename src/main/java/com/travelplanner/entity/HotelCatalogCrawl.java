@@ -0,0 +1,46 @@
+package com.travelplanner.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Records that one provider search region (geohash tile plus radius) was fully
+ * crawled into the hotels catalog, and when.
+ */
+@Entity
+@Table(name = "hotel_catalog_crawls")
+public class HotelCatalogCrawl {
+    @Id
+    @Column(name = "region_key", length = 40)
+    private String regionKey;
+
+    @Column(nullable = false, length = 12)
+    private String geohash;
+
+    @Column(name = "hotel_count", nullable = false)
+    private Integer hotelCount;
+
+    @Column(name = "crawled_at", nullable = false)
+    private LocalDateTime crawledAt;
+
+    // Constructors
+    public HotelCatalogCrawl() {}
+
+    public HotelCatalogCrawl(String regionKey, String geohash) {
+        this.regionKey = regionKey;
+        this.geohash = geohash;
+    }
+
+    // Getters and Setters
+    public String getRegionKey() { return regionKey; }
+    public void setRegionKey(String regionKey) { this.regionKey = regionKey; }
+
+    public String getGeohash() { return geohash; }
+    public void setGeohash(String geohash) { this.geohash = geohash; }
+
+    public Integer getHotelCount() { return hotelCount; }
+    public void setHotelCount(Integer hotelCount) { this.hotelCount = hotelCount; }
+
+    public LocalDateTime getCrawledAt() { return crawledAt; }
+    public void setCrawledAt(LocalDateTime crawledAt) { this.crawledAt = crawledAt; }
+}
@@ -0,0 +1,40 @@
+package com.travelplanner.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Image URL resolved for a hotel image token (hash of the hotel's name and
+ * address), kept so resolutions survive restarts and in-memory eviction.
+ */
+@Entity
+@Table(name = "hotel_image_cache")
+public class HotelImageCacheEntry {
+    @Id
+    @Column(length = 20)
+    private String token;
+
+    @Column(name = "image_url", nullable = false, length = 500)
+    private String imageUrl;
+
+    @Column(name = "resolved_at", nullable = false)
+    private LocalDateTime resolvedAt;
+
+    // Constructors
+    public HotelImageCacheEntry() {}
+
+    public HotelImageCacheEntry(String token, String imageUrl) {
+        this.token = token;
+        this.imageUrl = imageUrl;
+    }
+
+    // Getters and Setters
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+
+    public String getImageUrl() { return imageUrl; }
+    public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+
+    public LocalDateTime getResolvedAt() { return resolvedAt; }
+    public void setResolvedAt(LocalDateTime resolvedAt) { this.resolvedAt = resolvedAt; }
+}
@@ -0,0 +1,75 @@
+package com.travelplanner.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the destination image backfill, committed with every batch so an
+ * interrupted run resumes after the last processed destination id.
+ */
+@Entity
+@Table(name = "image_backfill_checkpoint")
+public class ImageBackfillCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(name = "last_destination_id", nullable = false)
+    private Long lastDestinationId = 0L;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(nullable = false)
+    private long updated;
+
+    @Column(name = "not_found", nullable = false)
+    private long notFound;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ImageBackfillCheckpoint() {}
+
+    public ImageBackfillCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    // Getters and Setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public Long getLastDestinationId() { return lastDestinationId; }
+    public void setLastDestinationId(Long lastDestinationId) { this.lastDestinationId = lastDestinationId; }
+
+    public long getProcessed() { return processed; }
+    public void setProcessed(long processed) { this.processed = processed; }
+
+    public long getUpdated() { return updated; }
+    public void setUpdated(long updated) { this.updated = updated; }
+
+    public long getNotFound() { return notFound; }
+    public void setNotFound(long notFound) { this.notFound = notFound; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
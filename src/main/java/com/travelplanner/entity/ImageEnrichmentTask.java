@@ -0,0 +1,66 @@
+package com.travelplanner.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row asking the background worker to look up a Wikipedia image for a
+ * destination. Written in the same transaction as the destination itself.
+ */
+@Entity
+@Table(name = "image_enrichment_outbox", indexes = {
+        @Index(name = "idx_image_enrichment_next_attempt", columnList = "next_attempt_at")
+})
+public class ImageEnrichmentTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "destination_id", nullable = false, unique = true)
+    private Long destinationId;
+
+    // Destination name at the time of the request; the lookup title
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // Constructors
+    public ImageEnrichmentTask() {}
+
+    public ImageEnrichmentTask(Long destinationId) {
+        this.destinationId = destinationId;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getDestinationId() { return destinationId; }
+    public void setDestinationId(Long destinationId) { this.destinationId = destinationId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public LocalDateTime getRequestedAt() { return requestedAt; }
+    public void setRequestedAt(LocalDateTime requestedAt) { this.requestedAt = requestedAt; }
+
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
@@ -0,0 +1,52 @@
+package com.travelplanner.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Ranked hotel recommendations precomputed for a trip, tagged with the hash of
+ * the destination set they were computed for and the ids of those destinations
+ * (",3,7,"), so a deleted destination can still find the lists that used it.
+ */
+@Entity
+@Table(name = "trip_hotel_recommendations")
+public class TripHotelRecommendation {
+    @Id
+    @Column(name = "trip_id")
+    private Long tripId;
+
+    @Column(name = "destination_hash", nullable = false, length = 64)
+    private String destinationHash;
+
+    @Column(name = "destination_ids", length = 1000)
+    private String destinationIds;
+
+    @Column(name = "hotels_json", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String hotelsJson;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    // Constructors
+    public TripHotelRecommendation() {}
+
+    public TripHotelRecommendation(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    // Getters and Setters
+    public Long getTripId() { return tripId; }
+    public void setTripId(Long tripId) { this.tripId = tripId; }
+
+    public String getDestinationHash() { return destinationHash; }
+    public void setDestinationHash(String destinationHash) { this.destinationHash = destinationHash; }
+
+    public String getDestinationIds() { return destinationIds; }
+    public void setDestinationIds(String destinationIds) { this.destinationIds = destinationIds; }
+
+    public String getHotelsJson() { return hotelsJson; }
+    public void setHotelsJson(String hotelsJson) { this.hotelsJson = hotelsJson; }
+
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+}
@@ -0,0 +1,32 @@
+package com.travelplanner.event;
+
+import com.travelplanner.entity.Destination;
+
+/**
+ * Published when a destination is created, updated or deleted. Carries the
+ * saved entity, or null when the destination was deleted.
+ */
+public class DestinationChangedEvent {
+    private final Long destinationId;
+    private final Destination destination;
+
+    public DestinationChangedEvent(Destination destination) {
+        this.destinationId = destination.getId();
+        this.destination = destination;
+    }
+
+    private DestinationChangedEvent(Long destinationId) {
+        this.destinationId = destinationId;
+        this.destination = null;
+    }
+
+    public static DestinationChangedEvent deleted(Long destinationId) {
+        return new DestinationChangedEvent(destinationId);
+    }
+
+    public Long getDestinationId() { return destinationId; }
+
+    public Destination getDestination() { return destination; }
+
+    public boolean isDeleted() { return destination == null; }
+}
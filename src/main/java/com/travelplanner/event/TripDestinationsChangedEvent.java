@@ -0,0 +1,15 @@
+package com.travelplanner.event;
+
+/**
+ * Published after a trip's destination set changes (destination added or
+ * removed, or the trip deleted).
+ */
+public class TripDestinationsChangedEvent {
+    private final Long tripId;
+
+    public TripDestinationsChangedEvent(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    public Long getTripId() { return tripId; }
+}
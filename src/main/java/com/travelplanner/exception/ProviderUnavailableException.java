@@ -0,0 +1,11 @@
+package com.travelplanner.exception;
+
+/**
+ * Thrown when an upstream provider call is refused locally because its circuit
+ * is open or its bulkhead is full.
+ */
+public class ProviderUnavailableException extends RuntimeException {
+    public ProviderUnavailableException(String message) {
+        super(message);
+    }
+}
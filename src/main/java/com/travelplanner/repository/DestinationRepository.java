@@ -1,11 +1,15 @@
 package com.travelplanner.repository;
 
 import com.travelplanner.entity.Destination;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Repository
@@ -24,4 +28,51 @@ public interface DestinationRepository extends JpaRepository<Destination, Long>
            "LOWER(d.country) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     List<Destination> findByCategoryAndSearchTerm(@Param("category") Destination.Category category, 
                                                   @Param("searchTerm") String searchTerm);
+
+    // Keyset pages for the catalog listing, ordered by rating (highest first) then id;
+    // the (rating, id) pair is the last row of the previous page
+    String AFTER_CURSOR = "(d.averageRating < :rating OR (d.averageRating = :rating AND d.id > :id))";
+    String SEARCH_TERM = "(LOWER(d.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(d.city) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(d.country) LIKE LOWER(CONCAT('%', :searchTerm, '%')))";
+
+    @Query("SELECT d FROM Destination d WHERE " + AFTER_CURSOR +
+           " ORDER BY d.averageRating DESC, d.id ASC")
+    List<Destination> findPageAfter(@Param("rating") BigDecimal rating, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT d FROM Destination d WHERE d.category = :category AND " + AFTER_CURSOR +
+           " ORDER BY d.averageRating DESC, d.id ASC")
+    List<Destination> findByCategoryPageAfter(@Param("category") Destination.Category category,
+                                              @Param("rating") BigDecimal rating, @Param("id") Long id,
+                                              Pageable pageable);
+
+    @Query("SELECT d FROM Destination d WHERE " + SEARCH_TERM + " AND " + AFTER_CURSOR +
+           " ORDER BY d.averageRating DESC, d.id ASC")
+    List<Destination> findBySearchTermPageAfter(@Param("searchTerm") String searchTerm,
+                                                @Param("rating") BigDecimal rating, @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("SELECT d FROM Destination d WHERE d.category = :category AND " + SEARCH_TERM + " AND " + AFTER_CURSOR +
+           " ORDER BY d.averageRating DESC, d.id ASC")
+    List<Destination> findByCategoryAndSearchTermPageAfter(@Param("category") Destination.Category category,
+                                                           @Param("searchTerm") String searchTerm,
+                                                           @Param("rating") BigDecimal rating, @Param("id") Long id,
+                                                           Pageable pageable);
+
+    // Keyset page of destinations without a real image (null, empty or a placeholder URL)
+    @Query("SELECT d FROM Destination d WHERE d.id > :afterId AND " +
+           "(d.imageUrl IS NULL OR d.imageUrl = '' OR d.imageUrl LIKE CONCAT(:placeholderPrefix, '%')) " +
+           "ORDER BY d.id ASC")
+    List<Destination> findMissingImagesAfter(@Param("afterId") Long afterId,
+                                             @Param("placeholderPrefix") String placeholderPrefix,
+                                             Pageable pageable);
+
+    // Targeted update so background image enrichment never overwrites a concurrent edit;
+    // skipped if the destination was renamed since the lookup was requested
+    @Transactional
+    @Modifying
+    @Query("UPDATE Destination d SET d.imageUrl = COALESCE(:imageUrl, d.imageUrl), d.imageStatus = :status " +
+           "WHERE d.id = :id AND d.name = :name")
+    int updateImage(@Param("id") Long id, @Param("name") String name,
+                    @Param("imageUrl") String imageUrl, @Param("status") Destination.ImageStatus status);
 }
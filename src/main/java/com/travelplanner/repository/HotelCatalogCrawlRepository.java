@@ -0,0 +1,9 @@
+package com.travelplanner.repository;
+
+import com.travelplanner.entity.HotelCatalogCrawl;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HotelCatalogCrawlRepository extends JpaRepository<HotelCatalogCrawl, String> {
+}
@@ -0,0 +1,26 @@
+package com.travelplanner.repository;
+
+import com.travelplanner.entity.Hotel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HotelRepository extends JpaRepository<Hotel, Long> {
+    Optional<Hotel> findByProviderXid(String providerXid);
+
+    // Range scan on idx_hotels_location (latitude, longitude)
+    @Query("SELECT h FROM Hotel h WHERE h.providerXid IS NOT NULL AND " +
+           "h.latitude BETWEEN :minLat AND :maxLat AND " +
+           "h.longitude BETWEEN :minLon AND :maxLon")
+    List<Hotel> findProviderHotelsWithinBounds(@Param("minLat") BigDecimal minLat,
+                                               @Param("maxLat") BigDecimal maxLat,
+                                               @Param("minLon") BigDecimal minLon,
+                                               @Param("maxLon") BigDecimal maxLon);
+
+}
@@ -0,0 +1,9 @@
+package com.travelplanner.repository;
+
+import com.travelplanner.entity.ImageBackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImageBackfillCheckpointRepository extends JpaRepository<ImageBackfillCheckpoint, String> {
+}
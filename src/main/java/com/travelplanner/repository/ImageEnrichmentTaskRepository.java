@@ -0,0 +1,41 @@
+package com.travelplanner.repository;
+
+import com.travelplanner.entity.ImageEnrichmentTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageEnrichmentTaskRepository extends JpaRepository<ImageEnrichmentTask, Long> {
+    Optional<ImageEnrichmentTask> findByDestinationId(Long destinationId);
+
+    List<ImageEnrichmentTask> findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(LocalDateTime now,
+                                                                                       Pageable pageable);
+
+    // Only removes the task if it was not re-requested while the worker was processing it
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageEnrichmentTask t WHERE t.id = :id AND t.requestedAt = :requestedAt")
+    int deleteIfUnchanged(@Param("id") Long id, @Param("requestedAt") LocalDateTime requestedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageEnrichmentTask t SET t.attempts = :attempts, t.nextAttemptAt = :nextAttemptAt, " +
+           "t.lastError = :lastError WHERE t.id = :id AND t.requestedAt = :requestedAt")
+    int rescheduleIfUnchanged(@Param("id") Long id, @Param("requestedAt") LocalDateTime requestedAt,
+                              @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                              @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageEnrichmentTask t WHERE t.destinationId = :destinationId")
+    int deleteByDestinationId(@Param("destinationId") Long destinationId);
+}
@@ -0,0 +1,16 @@
+package com.travelplanner.repository;
+
+import com.travelplanner.entity.PlaceSearchCacheEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlaceSearchCacheRepository extends JpaRepository<PlaceSearchCacheEntry, Long> {
+    Optional<PlaceSearchCacheEntry> findByCacheKey(String cacheKey);
+
+    List<PlaceSearchCacheEntry> findAllByOrderByCreatedAtAsc(Pageable pageable);
+}
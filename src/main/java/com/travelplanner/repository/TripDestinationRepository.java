@@ -1,8 +1,18 @@
 package com.travelplanner.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.travelplanner.entity.TripDestination;
 
 public interface TripDestinationRepository extends JpaRepository<TripDestination, Long> {
+
+    @Query("SELECT td FROM TripDestination td JOIN FETCH td.destination WHERE td.trip.id = :tripId")
+    List<TripDestination> findByTripIdWithDestination(@Param("tripId") Long tripId);
+
+    @Query("SELECT DISTINCT td.trip.id FROM TripDestination td WHERE td.destination.id = :destinationId")
+    List<Long> findTripIdsByDestinationId(@Param("destinationId") Long destinationId);
 }
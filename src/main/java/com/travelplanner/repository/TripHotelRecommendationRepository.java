@@ -0,0 +1,17 @@
+package com.travelplanner.repository;
+
+import com.travelplanner.entity.TripHotelRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TripHotelRecommendationRepository extends JpaRepository<TripHotelRecommendation, Long> {
+
+    // destinationIds is stored as ",3,7,", so matching ",<id>," never hits a longer id
+    @Query("SELECT r.tripId FROM TripHotelRecommendation r WHERE r.destinationIds LIKE :pattern")
+    List<Long> findTripIdsByDestinationIdsLike(@Param("pattern") String pattern);
+}
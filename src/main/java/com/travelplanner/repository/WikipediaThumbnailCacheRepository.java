@@ -0,0 +1,12 @@
+package com.travelplanner.repository;
+
+import com.travelplanner.entity.WikipediaThumbnailCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface WikipediaThumbnailCacheRepository extends JpaRepository<WikipediaThumbnailCacheEntry, Long> {
+    Optional<WikipediaThumbnailCacheEntry> findByTitleKey(String titleKey);
+}
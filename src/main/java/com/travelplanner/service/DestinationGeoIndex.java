@@ -0,0 +1,206 @@
+package com.travelplanner.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelplanner.entity.Destination;
+import com.travelplanner.event.DestinationChangedEvent;
+import com.travelplanner.repository.DestinationRepository;
+import com.travelplanner.util.GeoUtils;
+
+/**
+ * Uniform lat/lon grid over destination coordinates for radius queries.
+ * Coordinates live in primitive arrays indexed by slot, and each grid cell lists
+ * the slots inside it, so a query only computes distances for the cells
+ * overlapping the search circle's bounding box. Longitude columns wrap at the
+ * antimeridian. Kept in sync from DestinationChangedEvent after each commit.
+ */
+@Service
+public class DestinationGeoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DestinationGeoIndex.class);
+
+    @Autowired
+    private DestinationRepository destinationRepository;
+
+    private final double cellDegrees;
+    private final int rowCount;
+    private final int columnCount;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, int[]> cells = new HashMap<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private long[] ids = new long[256];
+    private double[] lats = new double[256];
+    private double[] lons = new double[256];
+    private int nextSlot;
+    private volatile boolean ready;
+
+    /** A destination id with its distance from the query point. */
+    public static final class Nearby {
+        private final long id;
+        private final double distanceKm;
+
+        Nearby(long id, double distanceKm) {
+            this.id = id;
+            this.distanceKm = distanceKm;
+        }
+
+        public long getId() { return id; }
+
+        public double getDistanceKm() { return distanceKm; }
+    }
+
+    public DestinationGeoIndex(@Value("${destinations.nearby.cell-degrees:1.0}") double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        rowCount = (int) Math.ceil(180 / cellDegrees);
+        columnCount = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            slotById.clear();
+            freeSlots.clear();
+            nextSlot = 0;
+
+            for (Destination destination : destinationRepository.findAll()) add(destination);
+            ready = true;
+            logger.info("Destination geo index built: {} destinations in {} cells", slotById.size(), cells.size());
+        } catch (RuntimeException e) {
+            logger.warn("Could not build destination geo index: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getDestinationId());
+            if (!event.isDeleted()) add(event.getDestination());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** Up to {@code limit} destinations within {@code radiusKm} of the point, nearest first. */
+    public List<Nearby> nearby(double lat, double lon, double radiusKm, int limit) {
+        // Longitudes are left unclamped so columns can wrap at the antimeridian
+        double angle = radiusKm / GeoUtils.EARTH_RADIUS_KM;
+        double dLat = Math.toDegrees(angle);
+        // A circle reaching a pole spans every longitude; otherwise this is its exact half-width
+        boolean reachesPole = lat + dLat >= 90 || lat - dLat <= -90;
+        double dLon = reachesPole ? 180 : Math.toDegrees(Math.asin(Math.sin(angle) / Math.cos(Math.toRadians(lat))));
+        int firstRow = row(Math.max(-90, lat - dLat));
+        int lastRow = row(Math.min(90, lat + dLat));
+        int firstColumn = (int) Math.floor((lon - dLon + 180) / cellDegrees);
+        int lastColumn = (int) Math.floor((lon + dLon + 180) / cellDegrees);
+        if (reachesPole || lastColumn - firstColumn + 1 >= columnCount) {
+            firstColumn = 0;
+            lastColumn = columnCount - 1;
+        }
+
+        List<Nearby> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int r = firstRow; r <= lastRow; r++) {
+                for (int c = firstColumn; c <= lastColumn; c++) {
+                    int[] slots = cells.get(cellKey(r, Math.floorMod(c, columnCount)));
+                    if (slots == null) continue;
+                    for (int slot : slots) {
+                        double distance = GeoUtils.distanceKm(lat, lon, lats[slot], lons[slot]);
+                        if (distance <= radiusKm) found.add(new Nearby(ids[slot], distance));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        found.sort((a, b) -> a.distanceKm != b.distanceKm
+                ? Double.compare(a.distanceKm, b.distanceKm) : Long.compare(a.id, b.id));
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    private void add(Destination destination) {
+        // Destinations without coordinates cannot be found by location
+        if (destination.getLatitude() == null || destination.getLongitude() == null) return;
+
+        Integer free = freeSlots.poll();
+        int slot = free != null ? free : nextSlot++;
+        if (slot >= ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            lats = Arrays.copyOf(lats, ids.length);
+            lons = Arrays.copyOf(lons, ids.length);
+        }
+        ids[slot] = destination.getId();
+        lats[slot] = destination.getLatitude().doubleValue();
+        lons[slot] = destination.getLongitude().doubleValue();
+        slotById.put(ids[slot], slot);
+
+        int key = cellOf(slot);
+        int[] members = cells.get(key);
+        if (members == null) {
+            cells.put(key, new int[] { slot });
+        } else {
+            int[] grown = Arrays.copyOf(members, members.length + 1);
+            grown[members.length] = slot;
+            cells.put(key, grown);
+        }
+    }
+
+    private void remove(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) return;
+
+        int key = cellOf(slot);
+        int[] members = cells.get(key);
+        int[] remaining = new int[members.length - 1];
+        int size = 0;
+        for (int member : members) {
+            if (member != slot) remaining[size++] = member;
+        }
+        if (size == 0) {
+            cells.remove(key);
+        } else {
+            cells.put(key, remaining);
+        }
+        freeSlots.push(slot);
+    }
+
+    private int cellOf(int slot) {
+        int column = Math.floorMod((int) Math.floor((lons[slot] + 180) / cellDegrees), columnCount);
+        return cellKey(row(lats[slot]), column);
+    }
+
+    private int row(double lat) {
+        return Math.min(rowCount - 1, (int) Math.floor((lat + 90) / cellDegrees));
+    }
+
+    private int cellKey(int row, int column) {
+        return row * columnCount + column;
+    }
+}
@@ -0,0 +1,130 @@
+package com.travelplanner.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.travelplanner.entity.Destination;
+import com.travelplanner.entity.ImageEnrichmentTask;
+import com.travelplanner.exception.ProviderUnavailableException;
+import com.travelplanner.repository.DestinationRepository;
+import com.travelplanner.repository.ImageEnrichmentTaskRepository;
+
+/**
+ * Fills in destination images from Wikipedia outside the write path. Destination
+ * writes add a row to image_enrichment_outbox; a scheduled worker drains due rows
+ * with bounded concurrency, retrying failures with exponential backoff.
+ */
+@Service
+public class DestinationImageEnrichmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DestinationImageEnrichmentService.class);
+
+    @Autowired
+    private ImageEnrichmentTaskRepository taskRepository;
+
+    @Autowired
+    private DestinationRepository destinationRepository;
+
+    @Autowired
+    private WikipediaImageService wikipediaImageService;
+
+    @Autowired
+    private DestinationResponseCache responseCache;
+
+    @Autowired
+    @Qualifier("imageEnrichmentExecutor")
+    private ExecutorService imageEnrichmentExecutor;
+
+    @Value("${destinations.images.batch-size:20}")
+    private int batchSize;
+
+    @Value("${destinations.images.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${destinations.images.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    @Value("${destinations.images.retry-max-seconds:3600}")
+    private long retryMaxSeconds;
+
+    /** Queues (or re-queues) a lookup; call inside the transaction that saves the destination. */
+    public void enqueue(Destination destination) {
+        LocalDateTime now = LocalDateTime.now();
+        ImageEnrichmentTask task = taskRepository.findByDestinationId(destination.getId())
+                .orElseGet(() -> new ImageEnrichmentTask(destination.getId()));
+        task.setTitle(destination.getName());
+        task.setAttempts(0);
+        task.setRequestedAt(now);
+        task.setNextAttemptAt(now);
+        task.setLastError(null);
+        taskRepository.save(task);
+    }
+
+    public void cancel(Long destinationId) {
+        taskRepository.deleteByDestinationId(destinationId);
+    }
+
+    @Scheduled(fixedDelayString = "${destinations.images.poll-interval-ms:5000}")
+    public void drainOutbox() {
+        List<ImageEnrichmentTask> due = taskRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (due.isEmpty()) return;
+
+        List<CompletableFuture<Void>> runs = new ArrayList<>(due.size());
+        for (ImageEnrichmentTask task : due) {
+            runs.add(CompletableFuture.runAsync(() -> process(task), imageEnrichmentExecutor));
+        }
+        CompletableFuture.allOf(runs.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void process(ImageEnrichmentTask task) {
+        try {
+            Optional<String> thumbnail = wikipediaImageService.findThumbnail(task.getTitle());
+            destinationRepository.updateImage(task.getDestinationId(), task.getTitle(), thumbnail.orElse(null),
+                    thumbnail.isPresent() ? Destination.ImageStatus.READY : Destination.ImageStatus.NOT_FOUND);
+            responseCache.invalidate(task.getDestinationId());
+            taskRepository.deleteIfUnchanged(task.getId(), task.getRequestedAt());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            retryLater(task, e);
+        }
+    }
+
+    private void retryLater(ImageEnrichmentTask task, Exception cause) {
+        int attempts = task.getAttempts() + 1;
+        String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+
+        // An open circuit is not the title's fault; don't spend an attempt on it
+        if (cause instanceof ProviderUnavailableException) attempts = task.getAttempts();
+
+        if (attempts >= maxAttempts) {
+            logger.warn("Giving up on Wikipedia image for destination {} after {} attempts: {}",
+                    task.getDestinationId(), attempts, error);
+            destinationRepository.updateImage(task.getDestinationId(), task.getTitle(), null,
+                    Destination.ImageStatus.FAILED);
+            responseCache.invalidate(task.getDestinationId());
+            taskRepository.deleteIfUnchanged(task.getId(), task.getRequestedAt());
+            return;
+        }
+
+        // No-op if the task was re-requested meanwhile; the newer request runs instead
+        long delaySeconds = Math.min(retryMaxSeconds, retryBaseSeconds << Math.min(attempts, 20));
+        taskRepository.rescheduleIfUnchanged(task.getId(), task.getRequestedAt(), attempts,
+                LocalDateTime.now().plusSeconds(delaySeconds),
+                error.length() > 500 ? error.substring(0, 500) : error);
+    }
+}
@@ -0,0 +1,120 @@
+package com.travelplanner.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelplanner.dto.CacheMetricsResponse;
+import com.travelplanner.dto.DestinationResponse;
+import com.travelplanner.event.DestinationChangedEvent;
+
+/**
+ * Read-through cache of DestinationResponse snapshots keyed by destination id,
+ * bounded by an estimate of retained bytes and evicted least recently used first.
+ * Callers get a copy, so a cached snapshot never changes once stored. Entries are
+ * dropped after committed destination writes (DestinationChangedEvent) and after
+ * the background image workers update a row.
+ */
+@Service
+public class DestinationResponseCache {
+
+    @Value("${destinations.response-cache.max-bytes:8388608}")
+    private long maxBytes;
+
+    private final Map<Long, Snapshot> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+    // Bumped on every invalidation; a load that overlaps one is not stored, as it may have read the old row
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    private static final class Snapshot {
+        final DestinationResponse response;
+        final long weight;
+
+        Snapshot(DestinationResponse response) {
+            this.response = response;
+            this.weight = weigh(response);
+        }
+    }
+
+    public DestinationResponse get(Long id, Supplier<DestinationResponse> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Snapshot cached = entries.get(id);
+            if (cached != null) {
+                hits++;
+                return new DestinationResponse(cached.response);
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        DestinationResponse loaded = loader.get();
+        Snapshot snapshot = new Snapshot(new DestinationResponse(loaded));
+        synchronized (this) {
+            if (loadGeneration == generation && snapshot.weight <= maxBytes) {
+                Snapshot previous = entries.put(id, snapshot);
+                if (previous != null) bytes -= previous.weight;
+                bytes += snapshot.weight;
+                evictOverflow();
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate(Long id) {
+        generation++;
+        Snapshot removed = entries.remove(id);
+        if (removed != null) {
+            bytes -= removed.weight;
+            invalidations++;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        invalidate(event.getDestinationId());
+    }
+
+    public synchronized CacheMetricsResponse metrics() {
+        CacheMetricsResponse metrics = new CacheMetricsResponse();
+        metrics.setCache("destination-responses");
+        metrics.setEntries(entries.size());
+        metrics.setBytes(bytes);
+        metrics.setMaxBytes(maxBytes);
+        metrics.setHits(hits);
+        metrics.setMisses(misses);
+        metrics.setEvictions(evictions);
+        metrics.setInvalidations(invalidations);
+        long lookups = hits + misses;
+        metrics.setHitRate(lookups > 0 ? (double) hits / lookups : 0);
+        return metrics;
+    }
+
+    private void evictOverflow() {
+        Iterator<Snapshot> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    // Rough retained size: object headers and boxed fields plus two bytes per string character
+    private static long weigh(DestinationResponse response) {
+        long weight = 200;
+        for (String text : new String[] { response.getName(), response.getCountry(), response.getCity(),
+                response.getDescription(), response.getImageUrl() }) {
+            if (text != null) weight += 48 + 2L * text.length();
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,354 @@
+package com.travelplanner.service;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelplanner.entity.Destination;
+import com.travelplanner.event.DestinationChangedEvent;
+import com.travelplanner.repository.DestinationRepository;
+
+/**
+ * In-memory inverted index over destination name, city and country. Every
+ * destination occupies a dense slot; trigrams and categories map to BitSets of
+ * slots, so a search is a few BitSet intersections followed by a substring check
+ * on the surviving candidates. Built once the application is ready and updated
+ * from DestinationChangedEvent after each committed write; until the first build
+ * finishes, callers fall back to the database.
+ */
+@Service
+public class DestinationSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DestinationSearchIndex.class);
+
+    private static final int GRAM = 3;
+
+    @Autowired
+    private DestinationRepository destinationRepository;
+
+    @Value("${destinations.search.fuzzy.budget-ms:25}")
+    private long fuzzyBudgetMs;
+
+    @Value("${destinations.search.fuzzy.max-candidates:200}")
+    private int fuzzyMaxCandidates;
+
+    @Value("${destinations.search.fuzzy.max-results:20}")
+    private int fuzzyMaxResults;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final BitSet[] categories = new BitSet[Destination.Category.values().length];
+    private final BitSet live = new BitSet();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private Entry[] entries = new Entry[256];
+    private int nextSlot;
+    private volatile boolean ready;
+
+    /** A search result with the key it is ranked by: score, then rating (both highest first), then id. */
+    public static final class Hit {
+        static final Comparator<Hit> RANKING = Comparator.comparingInt((Hit hit) -> -hit.score)
+                .thenComparing(hit -> -hit.rating)
+                .thenComparingLong(hit -> hit.id);
+
+        private final long id;
+        private final int score;
+        private final double rating;
+
+        Hit(long id, int score, double rating) {
+            this.id = id;
+            this.score = score;
+            this.rating = rating;
+        }
+
+        public long getId() { return id; }
+
+        public int getScore() { return score; }
+
+        public double getRating() { return rating; }
+    }
+
+    private static final class Entry {
+        final long id;
+        final String name;
+        final String city;
+        final String country;
+        final Destination.Category category;
+        final double rating;
+
+        Entry(Destination destination) {
+            id = destination.getId();
+            name = normalize(destination.getName());
+            city = normalize(destination.getCity());
+            country = normalize(destination.getCountry());
+            category = destination.getCategory();
+            rating = destination.getAverageRating() != null ? destination.getAverageRating().doubleValue() : 0;
+        }
+    }
+
+    public DestinationSearchIndex() {
+        for (int i = 0; i < categories.length; i++) categories[i] = new BitSet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Writes wait for the lock, so none can be applied and then overwritten by the snapshot
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            for (BitSet category : categories) category.clear();
+            live.clear();
+            slotById.clear();
+            freeSlots.clear();
+            Arrays.fill(entries, null);
+            nextSlot = 0;
+
+            for (Destination destination : destinationRepository.findAll()) add(destination);
+            ready = true;
+            logger.info("Destination search index built: {} destinations, {} trigrams", slotById.size(), postings.size());
+        } catch (RuntimeException e) {
+            logger.warn("Could not build destination search index; searching the database instead: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(event.getDestinationId());
+            if (!event.isDeleted()) add(event.getDestination());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ids of destinations whose name, city or country contains {@code term}
+     * (case- and accent-insensitive), optionally restricted to one category. Best
+     * matches come first: name before city before country, exact before prefix
+     * before word-prefix before infix, then by rating and id.
+     */
+    public List<Hit> search(String term, Destination.Category category) {
+        String query = normalize(term);
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) (category != null ? categories[category.ordinal()] : live).clone();
+            if (query.length() >= GRAM) {
+                for (String gram : grams(query)) {
+                    BitSet slots = postings.get(gram);
+                    if (slots == null) return new ArrayList<>();
+                    candidates.and(slots);
+                    if (candidates.isEmpty()) return new ArrayList<>();
+                }
+            }
+
+            // Trigrams may come from different fields, so every candidate is verified
+            int[] slots = new int[candidates.cardinality()];
+            int[] scores = new int[entries.length];
+            int matched = 0;
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                int score = score(entries[slot], query);
+                if (score == 0) continue;
+                scores[slot] = score;
+                slots[matched++] = slot;
+            }
+
+            List<Hit> hits = new ArrayList<>(matched);
+            for (int i = 0; i < matched; i++) {
+                Entry entry = entries[slots[i]];
+                hits.add(new Hit(entry.id, scores[slots[i]], entry.rating));
+            }
+            hits.sort(Hit.RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Near-matches for a misspelled term ("Colloseum", "Santorni"), for use when
+     * {@link #search} finds nothing. Destinations sharing the most trigrams with the
+     * term are checked first. A name or city (or one of their words) must be within
+     * a length-scaled edit distance of the term. Checking stops at the
+     * fuzzy.budget-ms deadline, and whatever was found by then is returned.
+     */
+    public List<Hit> fuzzySearch(String term, Destination.Category category) {
+        String query = normalize(term);
+        int maxDistance = query.length() < 4 ? 0 : query.length() <= 5 ? 1 : query.length() <= 9 ? 2 : 3;
+        if (maxDistance == 0) return new ArrayList<>();
+        long deadline = System.nanoTime() + fuzzyBudgetMs * 1_000_000;
+
+        lock.readLock().lock();
+        try {
+            BitSet allowed = category != null ? categories[category.ordinal()] : live;
+            int[] shared = new int[entries.length];
+            List<Integer> candidates = new ArrayList<>();
+            for (String gram : grams(query)) {
+                BitSet slots = postings.get(gram);
+                if (slots == null) continue;
+                for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                    if (allowed.get(slot) && shared[slot]++ == 0) candidates.add(slot);
+                }
+            }
+            candidates.sort((a, b) -> Integer.compare(shared[b], shared[a]));
+
+            int[] distances = new int[entries.length];
+            List<Integer> matched = new ArrayList<>();
+            for (int i = 0; i < candidates.size() && i < fuzzyMaxCandidates; i++) {
+                if (System.nanoTime() > deadline) break;
+                int slot = candidates.get(i);
+                Entry entry = entries[slot];
+                int distance = Math.min(closestDistance(entry.name, query, maxDistance),
+                        closestDistance(entry.city, query, maxDistance));
+                if (distance > maxDistance) continue;
+                distances[slot] = distance;
+                matched.add(slot);
+            }
+
+            // Closer edits first, then more shared trigrams; folded into one score so hits page like search()
+            List<Hit> hits = new ArrayList<>(matched.size());
+            for (int slot : matched) {
+                int score = (maxDistance + 1 - distances[slot]) * 1000 + Math.min(shared[slot], 999);
+                hits.add(new Hit(entries[slot].id, score, entries[slot].rating));
+            }
+            hits.sort(Hit.RANKING);
+            return hits.size() > fuzzyMaxResults ? new ArrayList<>(hits.subList(0, fuzzyMaxResults)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) return "";
+        String folded = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        return folded.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+
+    private void add(Destination destination) {
+        Entry entry = new Entry(destination);
+        Integer free = freeSlots.poll();
+        int slot = free != null ? free : nextSlot++;
+        if (slot >= entries.length) entries = Arrays.copyOf(entries, entries.length * 2);
+
+        entries[slot] = entry;
+        slotById.put(entry.id, slot);
+        live.set(slot);
+        if (entry.category != null) categories[entry.category.ordinal()].set(slot);
+        for (String gram : grams(entry)) {
+            postings.computeIfAbsent(gram, g -> new BitSet()).set(slot);
+        }
+    }
+
+    private void removeSlot(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) return;
+
+        Entry entry = entries[slot];
+        for (String gram : grams(entry)) {
+            BitSet slots = postings.get(gram);
+            if (slots == null) continue;
+            slots.clear(slot);
+            if (slots.isEmpty()) postings.remove(gram);
+        }
+        for (BitSet category : categories) category.clear(slot);
+        live.clear(slot);
+        entries[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private static Set<String> grams(Entry entry) {
+        Set<String> grams = grams(entry.name);
+        grams.addAll(grams(entry.city));
+        grams.addAll(grams(entry.country));
+        return grams;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) grams.add(text.substring(i, i + GRAM));
+        return grams;
+    }
+
+    // Smallest edit distance between the query and the whole field or, for one-word queries, any of its words
+    private static int closestDistance(String field, String query, int maxDistance) {
+        int best = editDistance(field, query, maxDistance);
+        if (best == 0 || query.indexOf(' ') >= 0) return best;
+        for (String word : field.split(" ")) {
+            best = Math.min(best, editDistance(word, query, maxDistance));
+        }
+        return best;
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions),
+     * giving up with {@code max + 1} as soon as every alignment exceeds {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) return max + 1;
+
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, previous2[j - 2] + 1);
+                }
+                current[j] = d;
+                rowMin = Math.min(rowMin, d);
+            }
+            if (rowMin > max) return max + 1;
+
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static int score(Entry entry, String query) {
+        return fieldScore(entry.name, query, 100) + fieldScore(entry.city, query, 60) + fieldScore(entry.country, query, 40);
+    }
+
+    private static int fieldScore(String field, String query, int weight) {
+        int at = field.indexOf(query);
+        if (at < 0) return 0;
+        if (field.length() == query.length()) return weight * 4;
+        if (at == 0) return weight * 3;
+        if (field.charAt(at - 1) == ' ') return weight * 2;
+        return weight;
+    }
+}
@@ -1,15 +1,29 @@
 package com.travelplanner.service;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.travelplanner.dto.DestinationPage;
 import com.travelplanner.dto.DestinationRequest;
 import com.travelplanner.dto.DestinationResponse;
+import com.travelplanner.dto.DestinationSuggestion;
+import com.travelplanner.dto.NearbyDestinationResponse;
 import com.travelplanner.entity.Destination;
+import com.travelplanner.event.DestinationChangedEvent;
 import com.travelplanner.repository.DestinationRepository;
+import com.travelplanner.util.PageCursor;
 
 @Service
 public class DestinationService {
@@ -18,31 +32,141 @@ public class DestinationService {
     private DestinationRepository destinationRepository;
 
     @Autowired
-    private WikipediaImageService wikipediaImageService;
+    private DestinationImageEnrichmentService imageEnrichmentService;
 
-    public List<DestinationResponse> searchDestinations(String search, String category) {
-        List<Destination> destinations;
+    @Autowired
+    private ImageProxyService imageProxyService;
+
+    @Autowired
+    private DestinationSearchIndex searchIndex;
+
+    @Autowired
+    private DestinationSuggestIndex suggestIndex;
+
+    @Autowired
+    private DestinationGeoIndex geoIndex;
+
+    @Autowired
+    private DestinationResponseCache responseCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-        if (search != null && !search.isEmpty() && category != null && !category.isEmpty() && !category.equals("ALL")) {
-            destinations = destinationRepository.findByCategoryAndSearchTerm(
-                    Destination.Category.valueOf(category), search);
-        } else if (search != null && !search.isEmpty()) {
-            destinations = destinationRepository.findBySearchTerm(search);
-        } else if (category != null && !category.isEmpty() && !category.equals("ALL")) {
-            destinations = destinationRepository.findByCategory(Destination.Category.valueOf(category));
+    @Value("${destinations.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${destinations.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${destinations.nearby.max-radius-km:500}")
+    private double maxNearbyRadiusKm;
+
+    @Value("${destinations.nearby.max-limit:100}")
+    private int maxNearbyLimit;
+
+    @Value("${destinations.suggest.max-limit:20}")
+    private int maxSuggestLimit;
+
+    /**
+     * One keyset page of the catalog. Free-text searches are ranked by the in-memory
+     * index (falling back to typo-tolerant matches when nothing contains the term);
+     * everything else is ordered by rating, then id. Pass the previous page's
+     * nextCursor to continue.
+     */
+    public DestinationPage searchDestinations(String search, String category, String cursor, Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int size = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        boolean hasSearch = search != null && !search.isEmpty();
+        Destination.Category filter = category != null && !category.isEmpty() && !category.equals("ALL")
+                ? Destination.Category.valueOf(category) : null;
+
+        if (hasSearch && searchIndex.isReady()) {
+            List<DestinationSearchIndex.Hit> hits = searchIndex.search(search, filter);
+            if (hits.isEmpty()) {
+                // Nothing contains the term as typed; fall back to near-matches for likely typos
+                hits = searchIndex.fuzzySearch(search, filter);
+            }
+
+            List<DestinationSearchIndex.Hit> page = new ArrayList<>(size + 1);
+            for (DestinationSearchIndex.Hit hit : hits) {
+                if (!after.isAfter(hit.getScore(), hit.getRating(), hit.getId())) continue;
+                page.add(hit);
+                if (page.size() > size) break;
+            }
+            boolean more = page.size() > size;
+            if (more) page.remove(size);
+
+            List<Long> ids = new ArrayList<>(page.size());
+            for (DestinationSearchIndex.Hit hit : page) ids.add(hit.getId());
+            DestinationSearchIndex.Hit last = page.isEmpty() ? null : page.get(page.size() - 1);
+            String next = more ? new PageCursor(last.getScore(), BigDecimal.valueOf(last.getRating()), last.getId()).encode() : null;
+            return new DestinationPage(toResponses(findAllInOrder(ids)), next);
+        }
+
+        // One extra row tells us whether another page exists
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Destination> destinations;
+        if (hasSearch && filter != null) {
+            destinations = destinationRepository.findByCategoryAndSearchTermPageAfter(
+                    filter, search, after.getRating(), after.getId(), pageable);
+        } else if (hasSearch) {
+            destinations = destinationRepository.findBySearchTermPageAfter(
+                    search, after.getRating(), after.getId(), pageable);
+        } else if (filter != null) {
+            destinations = destinationRepository.findByCategoryPageAfter(
+                    filter, after.getRating(), after.getId(), pageable);
         } else {
-            destinations = destinationRepository.findAll();
+            destinations = destinationRepository.findPageAfter(after.getRating(), after.getId(), pageable);
         }
 
-        return destinations.stream().map(this::convertToDestinationResponse).collect(Collectors.toList());
+        boolean more = destinations.size() > size;
+        if (more) destinations = destinations.subList(0, size);
+        Destination last = destinations.isEmpty() ? null : destinations.get(destinations.size() - 1);
+        String next = more ? new PageCursor(0, last.getAverageRating(), last.getId()).encode() : null;
+        return new DestinationPage(toResponses(destinations), next);
+    }
+
+    public List<DestinationSuggestion> suggestDestinations(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, Math.min(limit, maxSuggestLimit));
+    }
+
+    /** Destinations within radiusKm of the point, nearest first, answered from the in-memory grid. */
+    public List<NearbyDestinationResponse> findNearby(double lat, double lon, double radiusKm, int limit) {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180 || !(radiusKm > 0)) {
+            throw new IllegalArgumentException("Invalid location or radius");
+        }
+        if (!geoIndex.isReady()) throw new IllegalStateException("Destination geo index is not ready");
+
+        List<DestinationGeoIndex.Nearby> nearby = geoIndex.nearby(lat, lon,
+                Math.min(radiusKm, maxNearbyRadiusKm), Math.max(1, Math.min(limit, maxNearbyLimit)));
+        List<Long> ids = new ArrayList<>(nearby.size());
+        for (DestinationGeoIndex.Nearby hit : nearby) ids.add(hit.getId());
+
+        Map<Long, Destination> byId = new HashMap<>();
+        for (Destination destination : destinationRepository.findAllById(ids)) byId.put(destination.getId(), destination);
+        List<NearbyDestinationResponse> responses = new ArrayList<>(nearby.size());
+        for (DestinationGeoIndex.Nearby hit : nearby) {
+            Destination destination = byId.get(hit.getId());
+            if (destination == null) continue;
+            responses.add(new NearbyDestinationResponse(convertToDestinationResponse(destination), hit.getDistanceKm()));
+        }
+        return responses;
     }
 
     public DestinationResponse getDestinationById(Long id) {
-        Destination destination = destinationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Destination not found"));
-        return convertToDestinationResponse(destination);
+        return responseCache.get(id, () -> convertToDestinationResponse(destinationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Destination not found"))));
+    }
+
+    /**
+     * Cached response for a destination reached through another entity (a trip). The
+     * argument may be a lazy proxy; it is only loaded when the cache misses.
+     */
+    public DestinationResponse getCachedResponse(Destination destination) {
+        return responseCache.get(destination.getId(), () -> convertToDestinationResponse(destination));
     }
 
+    @Transactional
     public DestinationResponse createDestination(DestinationRequest request) {
         Destination destination = new Destination();
         destination.setName(request.getName());
@@ -53,22 +177,31 @@ public class DestinationService {
         destination.setLatitude(request.getLatitude());
         destination.setLongitude(request.getLongitude());
 
-        // Wikimedia fallback if imageUrl not provided
-        if (request.getImageUrl() == null || request.getImageUrl().isEmpty()) {
-            String wikiImage = wikipediaImageService.getImageUrl(request.getName());
-            destination.setImageUrl(wikiImage);
+        // Wikimedia fallback if imageUrl not provided, resolved in the background
+        boolean lookupImage = request.getImageUrl() == null || request.getImageUrl().isEmpty();
+        if (lookupImage) {
+            destination.setImageStatus(Destination.ImageStatus.PENDING);
         } else {
             destination.setImageUrl(request.getImageUrl());
+            destination.setImageStatus(Destination.ImageStatus.READY);
         }
 
         destination = destinationRepository.save(destination);
+        if (lookupImage) {
+            imageEnrichmentService.enqueue(destination);
+        } else {
+            imageEnrichmentService.cancel(destination.getId());
+        }
+        eventPublisher.publishEvent(new DestinationChangedEvent(destination));
         return convertToDestinationResponse(destination);
     }
 
+    @Transactional
     public DestinationResponse updateDestination(Long id, DestinationRequest request) {
         Destination destination = destinationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Destination not found"));
 
+        boolean nameChanged = !request.getName().equals(destination.getName());
         destination.setName(request.getName());
         destination.setCountry(request.getCountry());
         destination.setCity(request.getCity());
@@ -77,14 +210,24 @@ public class DestinationService {
         destination.setLatitude(request.getLatitude());
         destination.setLongitude(request.getLongitude());
 
-        if (request.getImageUrl() == null || request.getImageUrl().isEmpty()) {
-            String wikiImage = wikipediaImageService.getImageUrl(request.getName());
-            destination.setImageUrl(wikiImage);
-        } else {
+        // Keeps the current image until the background lookup finds a better one;
+        // with an unchanged name the lookup would only hit the same article again
+        boolean noImageUrl = request.getImageUrl() == null || request.getImageUrl().isEmpty();
+        boolean lookupImage = noImageUrl && nameChanged;
+        if (lookupImage) {
+            destination.setImageStatus(Destination.ImageStatus.PENDING);
+        } else if (!noImageUrl) {
             destination.setImageUrl(request.getImageUrl());
+            destination.setImageStatus(Destination.ImageStatus.READY);
         }
 
         destination = destinationRepository.save(destination);
+        if (lookupImage) {
+            imageEnrichmentService.enqueue(destination);
+        } else if (!noImageUrl) {
+            imageEnrichmentService.cancel(destination.getId());
+        }
+        eventPublisher.publishEvent(new DestinationChangedEvent(destination));
         return convertToDestinationResponse(destination);
     }
 
@@ -92,7 +235,27 @@ public class DestinationService {
         if (!destinationRepository.existsById(id)) {
             throw new RuntimeException("Destination not found");
         }
+        imageEnrichmentService.cancel(id);
         destinationRepository.deleteById(id);
+        eventPublisher.publishEvent(DestinationChangedEvent.deleted(id));
+    }
+
+    private List<DestinationResponse> toResponses(List<Destination> destinations) {
+        return destinations.stream().map(this::convertToDestinationResponse).collect(Collectors.toList());
+    }
+
+    // findAllById returns rows in database order; restore the index's ranking
+    private List<Destination> findAllInOrder(List<Long> ids) {
+        Map<Long, Destination> byId = new HashMap<>();
+        for (Destination destination : destinationRepository.findAllById(ids)) {
+            byId.put(destination.getId(), destination);
+        }
+        List<Destination> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Destination destination = byId.get(id);
+            if (destination != null) ordered.add(destination);
+        }
+        return ordered;
     }
 
     private DestinationResponse convertToDestinationResponse(Destination destination) {
@@ -106,7 +269,8 @@ public class DestinationService {
 
         response.setLatitude(destination.getLatitude());
         response.setLongitude(destination.getLongitude());
-        response.setImageUrl(destination.getImageUrl());
+        response.setImageUrl(imageProxyService.proxiedUrl(destination.getImageUrl()));
+        response.setImageStatus(destination.getImageStatus());
         response.setAverageRating(destination.getAverageRating());
         return response;
     }
@@ -0,0 +1,187 @@
+package com.travelplanner.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelplanner.dto.DestinationSuggestion;
+import com.travelplanner.entity.Destination;
+import com.travelplanner.event.DestinationChangedEvent;
+import com.travelplanner.repository.DestinationRepository;
+
+/**
+ * Prefix lookup for the destination typeahead. Every word of a destination's
+ * name, city and country (plus the full multi-word name and city) is a key in a
+ * sorted array, so a prefix is one binary search and a scan over the matching
+ * run. Readers use an immutable snapshot without locking; a write merges the
+ * changed destination's keys into a new snapshot.
+ */
+@Service
+public class DestinationSuggestIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DestinationSuggestIndex.class);
+
+    // Worst first, so a bounded heap evicts the lowest-rated candidate
+    private static final Comparator<Item> WORST_FIRST = Comparator.<Item>comparingDouble(item -> item.rating)
+            .thenComparing(item -> item.suggestion.getName(), Comparator.reverseOrder());
+
+    @Autowired
+    private DestinationRepository destinationRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new long[0], Collections.emptyMap());
+    private boolean ready;
+
+    private static final class Item {
+        final DestinationSuggestion suggestion;
+        final double rating;
+
+        Item(Destination destination) {
+            suggestion = new DestinationSuggestion(destination.getId(), destination.getName(), destination.getCity());
+            rating = destination.getAverageRating() != null ? destination.getAverageRating().doubleValue() : 0;
+        }
+    }
+
+    private static final class Snapshot {
+        final String[] keys;
+        final long[] ids; // ids[i] is the destination that keys[i] belongs to
+        final Map<Long, Item> items;
+
+        Snapshot(String[] keys, long[] ids, Map<Long, Item> items) {
+            this.keys = keys;
+            this.ids = ids;
+            this.items = items;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            Map<Long, Item> items = new HashMap<>();
+            List<String> allKeys = new ArrayList<>();
+            List<Long> allIds = new ArrayList<>();
+            for (Destination destination : destinationRepository.findAll()) {
+                items.put(destination.getId(), new Item(destination));
+                for (String key : keys(destination)) {
+                    allKeys.add(key);
+                    allIds.add(destination.getId());
+                }
+            }
+
+            Integer[] order = new Integer[allKeys.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, Comparator.comparing(allKeys::get));
+
+            String[] keys = new String[order.length];
+            long[] ids = new long[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = allKeys.get(order[i]);
+                ids[i] = allIds.get(order[i]);
+            }
+            snapshot = new Snapshot(keys, ids, items);
+            ready = true;
+            logger.info("Destination suggest index built: {} keys", keys.length);
+        } catch (RuntimeException e) {
+            logger.warn("Could not build destination suggest index: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onDestinationChanged(DestinationChangedEvent event) {
+        // Before the first build there is nothing to patch; the build reads committed rows
+        if (!ready) return;
+
+        Snapshot current = snapshot;
+        long id = event.getDestinationId();
+        String[] added = event.isDeleted() ? new String[0] : keys(event.getDestination()).toArray(new String[0]);
+
+        // Merge the remaining keys with the new (already sorted) ones in one pass
+        String[] keys = new String[current.keys.length + added.length];
+        long[] ids = new long[keys.length];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.ids[i] == id) continue;
+            while (next < added.length && added[next].compareTo(current.keys[i]) < 0) {
+                keys[size] = added[next++];
+                ids[size++] = id;
+            }
+            keys[size] = current.keys[i];
+            ids[size++] = current.ids[i];
+        }
+        while (next < added.length) {
+            keys[size] = added[next++];
+            ids[size++] = id;
+        }
+
+        Map<Long, Item> items = new HashMap<>(current.items);
+        if (event.isDeleted()) {
+            items.remove(id);
+        } else {
+            items.put(id, new Item(event.getDestination()));
+        }
+        snapshot = new Snapshot(Arrays.copyOf(keys, size), Arrays.copyOf(ids, size), items);
+    }
+
+    /** Up to {@code limit} destinations with a word starting with {@code prefix}, highest rated first. */
+    public List<DestinationSuggestion> suggest(String prefix, int limit) {
+        String query = DestinationSearchIndex.normalize(prefix);
+        if (query.isEmpty() || limit <= 0) return new ArrayList<>();
+
+        Snapshot current = snapshot;
+        Set<Long> seen = new HashSet<>();
+        PriorityQueue<Item> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        for (int i = lowerBound(current.keys, query); i < current.keys.length && current.keys[i].startsWith(query); i++) {
+            if (!seen.add(current.ids[i])) continue;
+            best.offer(current.items.get(current.ids[i]));
+            if (best.size() > limit) best.poll();
+        }
+
+        List<DestinationSuggestion> suggestions = new ArrayList<>(best.size());
+        while (!best.isEmpty()) suggestions.add(best.poll().suggestion);
+        Collections.reverse(suggestions);
+        return suggestions;
+    }
+
+    private static int lowerBound(String[] keys, String query) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static TreeSet<String> keys(Destination destination) {
+        TreeSet<String> keys = new TreeSet<>();
+        for (String field : new String[] { destination.getName(), destination.getCity(), destination.getCountry() }) {
+            String normalized = DestinationSearchIndex.normalize(field);
+            if (normalized.isEmpty()) continue;
+            keys.add(normalized);
+            for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) keys.add(word);
+            }
+        }
+        return keys;
+    }
+}
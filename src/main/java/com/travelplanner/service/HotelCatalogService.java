@@ -0,0 +1,202 @@
+package com.travelplanner.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.travelplanner.dto.HotelDetail;
+import com.travelplanner.entity.Destination;
+import com.travelplanner.entity.Hotel;
+import com.travelplanner.entity.HotelCatalogCrawl;
+import com.travelplanner.entity.TripDestination;
+import com.travelplanner.repository.HotelCatalogCrawlRepository;
+import com.travelplanner.repository.HotelRepository;
+import com.travelplanner.util.GeoUtils;
+import com.travelplanner.util.Geohash;
+
+/**
+ * Local catalog of provider hotels stored in the hotels table. Recommendations
+ * are answered from a bounding-box query when the search region itself (the
+ * geohash tile the provider search is keyed on, plus radius) was fully crawled
+ * within fresh-hours; provider results are upserted back in the background and
+ * the crawl is recorded in hotel_catalog_crawls.
+ */
+@Service
+public class HotelCatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelCatalogService.class);
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private HotelCatalogCrawlRepository crawlRepository;
+
+    @Autowired
+    private PlaceSearchCacheService placeSearchCacheService;
+
+    @Autowired
+    @Qualifier("hotelIngestExecutor")
+    private ExecutorService hotelIngestExecutor;
+
+    @Value("${hotels.catalog.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hotels.catalog.fresh-hours:168}")
+    private long freshHours;
+
+    /**
+     * Hotels within the radius of the point's search tile, or an empty list when that
+     * region was never fully crawled or the crawl is older than fresh-hours. Hotels
+     * ingested by neighbouring searches do not make a region fresh.
+     */
+    public List<HotelDetail> findFreshInRegion(double lat, double lon, int radiusMeters) {
+        if (!enabled) return Collections.emptyList();
+
+        String tile = placeSearchCacheService.tileFor(lat, lon);
+        Optional<HotelCatalogCrawl> crawl = crawlRepository.findById(regionKey(tile, radiusMeters));
+        if (crawl.isEmpty() || crawl.get().getCrawledAt().isBefore(LocalDateTime.now().minusHours(freshHours))) {
+            return Collections.emptyList();
+        }
+
+        // The region the provider search covered is centred on the tile, as in HotelService.searchPlaces
+        double[] center = Geohash.decodeCenter(tile);
+        return findInRegion(center[0], center[1], radiusMeters);
+    }
+
+    /** Fallback when the provider is unavailable: whatever the catalog has, however old. */
+    public List<HotelDetail> findAnyInRegion(double lat, double lon, int radiusMeters) {
+        if (!enabled) return Collections.emptyList();
+        return findInRegion(lat, lon, radiusMeters);
+    }
+
+    /** Coverage key for the provider search around this point, for {@link #ingestAsync}. */
+    public String regionKey(double lat, double lon, int radiusMeters) {
+        return regionKey(placeSearchCacheService.tileFor(lat, lon), radiusMeters);
+    }
+
+    private static String regionKey(String tile, int radiusMeters) {
+        return tile + ":" + radiusMeters;
+    }
+
+    private List<HotelDetail> findInRegion(double lat, double lon, int radiusMeters) {
+        double radiusKm = radiusMeters / 1000.0;
+        double[] box = GeoUtils.boundingBox(lat, lon, radiusKm);
+        BigDecimal minLat = BigDecimal.valueOf(box[0]);
+        BigDecimal maxLat = BigDecimal.valueOf(box[1]);
+        BigDecimal minLon = BigDecimal.valueOf(box[2]);
+        BigDecimal maxLon = BigDecimal.valueOf(box[3]);
+
+        List<HotelDetail> details = new ArrayList<>();
+        for (Hotel hotel : hotelRepository.findProviderHotelsWithinBounds(minLat, maxLat, minLon, maxLon)) {
+            double hotelLat = hotel.getLatitude().doubleValue();
+            double hotelLon = hotel.getLongitude().doubleValue();
+            if (GeoUtils.distanceKm(lat, lon, hotelLat, hotelLon) > radiusKm) continue;
+
+            details.add(new HotelDetail(hotel.getProviderXid(), hotel.getName(), hotel.getAddress(),
+                    hotelLat, hotelLon,
+                    hotel.getRating() != null ? hotel.getRating().doubleValue() : 0,
+                    hotel.getImageUrl()));
+        }
+        return details;
+    }
+
+    /**
+     * Queues provider results for upsert; dropped (and re-fetched next time) if the queue is full.
+     * {@code crawledRegion} is the {@link #regionKey} of a search whose candidates were all
+     * resolved, recorded once the upserts finish; null for partial results.
+     */
+    public void ingestAsync(List<HotelDetail> details, List<TripDestination> tripDestinations,
+                            String crawledRegion) {
+        if (!enabled || details.isEmpty() || tripDestinations.isEmpty()) return;
+
+        List<Destination> destinations = new ArrayList<>();
+        for (TripDestination td : tripDestinations) destinations.add(td.getDestination());
+
+        try {
+            hotelIngestExecutor.execute(() -> {
+                ingest(details, destinations);
+                if (crawledRegion != null) recordCrawl(crawledRegion, details.size());
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("Hotel catalog ingest queue full; skipping {} hotels", details.size());
+        }
+    }
+
+    private void ingest(List<HotelDetail> details, List<Destination> destinations) {
+        LocalDateTime now = LocalDateTime.now();
+        for (HotelDetail detail : details) {
+            if (detail.getLatitude() == null || detail.getLongitude() == null) continue;
+            try {
+                // The provider has no price data, so price_range stays null for catalog hotels
+                Hotel hotel = hotelRepository.findByProviderXid(detail.getXid()).orElseGet(() -> {
+                    Hotel created = new Hotel();
+                    created.setProviderXid(detail.getXid());
+                    return created;
+                });
+                hotel.setDestination(nearest(destinations, detail.getLatitude(), detail.getLongitude()));
+                hotel.setName(detail.getName());
+                hotel.setAddress(detail.getAddress());
+                hotel.setLatitude(BigDecimal.valueOf(detail.getLatitude()).setScale(8, RoundingMode.HALF_UP));
+                hotel.setLongitude(BigDecimal.valueOf(detail.getLongitude()).setScale(8, RoundingMode.HALF_UP));
+                hotel.setRating(catalogRating(detail.getRating()));
+                // A detail without a preview says nothing about the image; keep the one already resolved
+                if (detail.getPreviewUrl() != null) hotel.setImageUrl(detail.getPreviewUrl());
+                hotel.setLastFetchedAt(now);
+                hotelRepository.save(hotel);
+            } catch (Exception e) {
+                logger.warn("Could not upsert hotel {} into catalog: {}", detail.getXid(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The provider's "rate" is a popularity rank from 0 to 3, not a review score.
+     * It is stored unchanged (DECIMAL(2,1)) so a catalog read returns the same value
+     * as a live fetch; anything that does not fit is stored as unknown (null),
+     * which {@link #findInRegion} reads back as 0 like a missing rate.
+     */
+    static BigDecimal catalogRating(double rate) {
+        if (Double.isNaN(rate) || rate < 0 || rate > 9.9) return null;
+        return BigDecimal.valueOf(rate).setScale(1, RoundingMode.HALF_UP);
+    }
+
+    private void recordCrawl(String regionKey, int hotelCount) {
+        try {
+            HotelCatalogCrawl crawl = crawlRepository.findById(regionKey)
+                    .orElseGet(() -> new HotelCatalogCrawl(regionKey, regionKey.substring(0, regionKey.indexOf(':'))));
+            crawl.setHotelCount(hotelCount);
+            crawl.setCrawledAt(LocalDateTime.now());
+            crawlRepository.save(crawl);
+        } catch (Exception e) {
+            logger.warn("Could not record catalog crawl of {}: {}", regionKey, e.getMessage());
+        }
+    }
+
+    private Destination nearest(List<Destination> destinations, double lat, double lon) {
+        Destination best = destinations.get(0);
+        double bestDistance = Double.MAX_VALUE;
+        for (Destination destination : destinations) {
+            double d = GeoUtils.distanceKm(lat, lon,
+                    destination.getLatitude().doubleValue(), destination.getLongitude().doubleValue());
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = destination;
+            }
+        }
+        return best;
+    }
+}
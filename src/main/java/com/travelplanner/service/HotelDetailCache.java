@@ -0,0 +1,245 @@
+package com.travelplanner.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.travelplanner.dto.HotelDetail;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bounded LRU of parsed hotel details keyed by OpenTripMap xid.
+ * Stale entries are served immediately while a background refresh replaces them;
+ * entries evicted from memory are optionally spilled to disk and promoted back on the next miss.
+ * Spill files are written by a background writer (never under the LRU lock), removed when
+ * promoted, and pruned oldest first once the directory holds more than spill-max-files.
+ */
+@Service
+public class HotelDetailCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelDetailCache.class);
+
+    @FunctionalInterface
+    public interface Loader {
+        HotelDetail load(String xid) throws Exception;
+    }
+
+    private static class Entry {
+        final HotelDetail detail;
+        final long fetchedAtMillis;
+
+        Entry(HotelDetail detail, long fetchedAtMillis) {
+            this.detail = detail;
+            this.fetchedAtMillis = fetchedAtMillis;
+        }
+    }
+
+    @Autowired
+    @Qualifier("hotelRefreshExecutor")
+    private ExecutorService hotelRefreshExecutor;
+
+    @Value("${hotels.detail-cache.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${hotels.detail-cache.fresh-minutes:1440}")
+    private long freshMinutes;
+
+    @Autowired
+    @Qualifier("hotelSpillExecutor")
+    private ExecutorService hotelSpillExecutor;
+
+    @Value("${hotels.detail-cache.spill-dir:}")
+    private String spillDir;
+
+    @Value("${hotels.detail-cache.spill-max-files:20000}")
+    private int spillMaxFiles;
+
+    private Map<String, Entry> entries;
+    private Path spillPath;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    // Evicted entries waiting for the writer; still readable until their file exists
+    private final Map<String, Entry> pendingSpills = new ConcurrentHashMap<>();
+    private final AtomicInteger spillFiles = new AtomicInteger();
+
+    @PostConstruct
+    void init() throws IOException {
+        entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= maxEntries) return false;
+                spillAsync(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+        if (spillDir != null && !spillDir.isBlank()) {
+            spillPath = Files.createDirectories(Paths.get(spillDir));
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(spillPath, "*.json")) {
+                for (Path ignored : stream) spillFiles.incrementAndGet();
+            }
+            pruneSpills();
+        }
+    }
+
+    public HotelDetail get(String xid, Loader loader) throws Exception {
+        Entry entry = lookup(xid);
+        if (entry == null) {
+            HotelDetail detail = loader.load(xid);
+            if (detail != null) put(xid, detail);
+            return detail;
+        }
+
+        if (isStale(entry)) {
+            refreshAsync(xid, loader);
+        }
+        return entry.detail;
+    }
+
+    public void put(String xid, HotelDetail detail) {
+        synchronized (entries) {
+            entries.put(xid, new Entry(detail, System.currentTimeMillis()));
+        }
+    }
+
+    private Entry lookup(String xid) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(xid);
+        }
+        if (entry != null || spillPath == null) return entry;
+
+        entry = pendingSpills.get(xid);
+        if (entry == null) entry = readSpilled(xid);
+        if (entry != null) {
+            synchronized (entries) {
+                entries.putIfAbsent(xid, entry);
+            }
+        }
+        return entry;
+    }
+
+    private boolean isStale(Entry entry) {
+        return System.currentTimeMillis() - entry.fetchedAtMillis > freshMinutes * 60_000;
+    }
+
+    private void refreshAsync(String xid, Loader loader) {
+        if (!refreshing.add(xid)) return;
+        try {
+            hotelRefreshExecutor.execute(() -> {
+                try {
+                    HotelDetail detail = loader.load(xid);
+                    if (detail != null) put(xid, detail);
+                } catch (Exception e) {
+                    logger.debug("Background refresh of hotel {} failed: {}", xid, e.getMessage());
+                } finally {
+                    refreshing.remove(xid);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(xid);
+        }
+    }
+
+    // Called under the entries lock from removeEldestEntry, so it only hands off to the writer
+    private void spillAsync(String xid, Entry entry) {
+        if (spillPath == null) return;
+        pendingSpills.put(xid, entry);
+        try {
+            hotelSpillExecutor.execute(() -> spill(xid, entry));
+        } catch (RejectedExecutionException e) {
+            pendingSpills.remove(xid, entry); // writer saturated: the detail is re-fetched when needed
+        }
+    }
+
+    private void spill(String xid, Entry entry) {
+        JSONObject json = entry.detail.toJson();
+        json.put("fetchedAt", entry.fetchedAtMillis);
+        try {
+            Path file = spillFile(xid);
+            boolean created = !Files.exists(file);
+            Files.writeString(file, json.toString(), StandardCharsets.UTF_8);
+            if (created && spillFiles.incrementAndGet() > spillMaxFiles) pruneSpills();
+        } catch (IOException e) {
+            logger.warn("Could not spill hotel detail {} to disk: {}", xid, e.getMessage());
+        } finally {
+            pendingSpills.remove(xid, entry);
+        }
+    }
+
+    // Back in memory now, so the file is dropped; the entry is spilled again if evicted again
+    private Entry readSpilled(String xid) {
+        Path file = spillFile(xid);
+        if (!Files.exists(file)) return null;
+        try {
+            JSONObject json = new JSONObject(Files.readString(file, StandardCharsets.UTF_8));
+            return new Entry(HotelDetail.fromJson(json), json.optLong("fetchedAt", 0));
+        } catch (Exception e) {
+            logger.warn("Discarding unreadable spilled hotel detail {}: {}", xid, e.getMessage());
+            return null;
+        } finally {
+            try {
+                if (Files.deleteIfExists(file)) spillFiles.decrementAndGet();
+            } catch (IOException e) {
+                logger.debug("Could not remove spilled hotel detail {}: {}", xid, e.getMessage());
+            }
+        }
+    }
+
+    /** Deletes the oldest tenth of the spill directory once it holds more than spill-max-files. */
+    private synchronized void pruneSpills() {
+        if (spillFiles.get() <= spillMaxFiles) return;
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(spillPath, "*.json")) {
+            for (Path file : stream) files.add(file);
+        } catch (IOException e) {
+            logger.warn("Could not list spilled hotel details for pruning: {}", e.getMessage());
+            return;
+        }
+        files.sort(Comparator.comparingLong(HotelDetailCache::lastModified));
+
+        int target = spillMaxFiles - spillMaxFiles / 10;
+        int deleted = 0;
+        for (int i = 0; i < files.size() - target; i++) {
+            try {
+                if (Files.deleteIfExists(files.get(i))) deleted++;
+            } catch (IOException e) {
+                logger.warn("Could not prune spilled hotel detail {}: {}", files.get(i).getFileName(), e.getMessage());
+            }
+        }
+        spillFiles.set(files.size() - deleted);
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Path spillFile(String xid) {
+        return spillPath.resolve(xid.replaceAll("[^A-Za-z0-9_-]", "_") + ".json");
+    }
+}
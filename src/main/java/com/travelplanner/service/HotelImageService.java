@@ -0,0 +1,217 @@
+package com.travelplanner.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.travelplanner.entity.HotelImageCacheEntry;
+import com.travelplanner.exception.ProviderUnavailableException;
+import com.travelplanner.repository.HotelImageCacheRepository;
+import com.travelplanner.service.provider.ImageProvider;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Resolves hotel images off the request path. Hotels are returned with a
+ * placeholder and an image token; a background worker drains queued tokens in
+ * batches through the configured ImageProvider (Unsplash by default, rate
+ * limited there) and clients fetch the resolved URLs later by token. Resolved
+ * URLs are written through to hotel_image_cache, so a token stays answerable
+ * after a restart or after it falls out of the in-memory LRU.
+ */
+@Service
+public class HotelImageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelImageService.class);
+
+    public static final String PLACEHOLDER_IMAGE = "deaultHotel.jpg";
+
+    @Autowired
+    private ImageProvider imageProvider;
+
+    @Autowired
+    private ImageProxyService imageProxyService;
+
+    @Autowired
+    private HotelImageCacheRepository hotelImageCacheRepository;
+
+    @Value("${hotels.images.batch-size:10}")
+    private int batchSize;
+
+    @Value("${hotels.images.max-pending:500}")
+    private int maxPending;
+
+    @Value("${hotels.images.cache-size:5000}")
+    private int cacheSize;
+
+    @Value("${hotels.images.rate-limit-backoff-ms:60000}")
+    private long rateLimitBackoffMs;
+
+    private Map<String, String> resolved;
+    private LinkedBlockingQueue<String> queue;
+    private final Map<String, String> pendingQueries = new ConcurrentHashMap<>();
+    private volatile long pausedUntilMillis;
+
+    @PostConstruct
+    void init() {
+        resolved = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        queue = new LinkedBlockingQueue<>(maxPending);
+    }
+
+    public String tokenFor(String name, String address) {
+        String key = normalize(name) + "|" + normalize(address);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 10);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Returns the resolved image URL if known, otherwise queues resolution and returns the placeholder. */
+    public String imageUrlOrPlaceholder(String token, String name, String address) {
+        String url = cachedInMemory(token);
+        if (url != null) return url;
+        // Queued tokens were looked up in the database when they were queued; skip the read
+        if (pendingQueries.containsKey(token)) return PLACEHOLDER_IMAGE;
+        url = cachedPersisted(token);
+        if (url != null) return url;
+
+        if (pendingQueries.putIfAbsent(token, name + " " + address) == null && !queue.offer(token)) {
+            // Queue is full; forget the token so a later request can enqueue it again.
+            pendingQueries.remove(token);
+        }
+        return PLACEHOLDER_IMAGE;
+    }
+
+    /** Resolved URLs for the given tokens; tokens still pending are omitted. */
+    public Map<String, String> resolvedUrls(Collection<String> tokens) {
+        Map<String, String> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String token : tokens) {
+            String url = cachedInMemory(token);
+            if (url != null) {
+                found.put(token, url);
+            } else {
+                misses.add(token);
+            }
+        }
+        // One batched read for everything the LRU no longer (or not yet) holds
+        if (!misses.isEmpty()) {
+            for (HotelImageCacheEntry entry : loadPersisted(misses)) {
+                found.put(entry.getToken(), entry.getImageUrl());
+                cache(entry.getToken(), entry.getImageUrl());
+            }
+        }
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String token : tokens) {
+            String url = found.get(token);
+            // Returned straight to the client, so made absolute here rather than on serialization
+            if (url != null) urls.put(token, imageProxyService.absoluteUrl(imageProxyService.proxiedUrl(url)));
+        }
+        return urls;
+    }
+
+    @Scheduled(fixedDelayString = "${hotels.images.batch-interval-ms:2000}")
+    public void resolvePendingBatch() {
+        for (int i = 0; i < batchSize && System.currentTimeMillis() >= pausedUntilMillis; i++) {
+            String token = queue.poll();
+            if (token == null) return;
+
+            String query = pendingQueries.get(token);
+            if (query == null) continue;
+
+            try {
+                String url = imageProvider.searchImage(query);
+                if (url == null) {
+                    // Rate limited: keep the token queued and back off the whole worker
+                    pausedUntilMillis = System.currentTimeMillis() + rateLimitBackoffMs;
+                    queue.offer(token);
+                    return;
+                }
+                cache(token, url);
+                persist(token, url);
+                pendingQueries.remove(token);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ProviderUnavailableException e) {
+                // Circuit open or bulkhead full: retry the token once the provider recovers
+                pausedUntilMillis = System.currentTimeMillis() + rateLimitBackoffMs;
+                queue.offer(token);
+                return;
+            } catch (Exception e) {
+                logger.debug("Image lookup for token {} failed: {}", token, e.getMessage());
+                // Not persisted, so a failed lookup is retried after a restart
+                cache(token, PLACEHOLDER_IMAGE);
+                pendingQueries.remove(token);
+            }
+        }
+    }
+
+    private String cachedPersisted(String token) {
+        List<HotelImageCacheEntry> persisted = loadPersisted(List.of(token));
+        if (persisted.isEmpty()) return null;
+        cache(token, persisted.get(0).getImageUrl());
+        return persisted.get(0).getImageUrl();
+    }
+
+    private String cachedInMemory(String token) {
+        synchronized (resolved) {
+            return resolved.get(token);
+        }
+    }
+
+    private void cache(String token, String url) {
+        synchronized (resolved) {
+            resolved.put(token, url);
+        }
+    }
+
+    private List<HotelImageCacheEntry> loadPersisted(List<String> tokens) {
+        try {
+            return hotelImageCacheRepository.findAllById(tokens);
+        } catch (Exception e) {
+            logger.warn("Could not read persisted hotel images: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void persist(String token, String url) {
+        try {
+            HotelImageCacheEntry entry = new HotelImageCacheEntry(token, url);
+            entry.setResolvedAt(LocalDateTime.now());
+            hotelImageCacheRepository.save(entry);
+        } catch (Exception e) {
+            logger.warn("Could not persist hotel image for token {}: {}", token, e.getMessage());
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
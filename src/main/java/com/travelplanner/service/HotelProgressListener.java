@@ -0,0 +1,24 @@
+package com.travelplanner.service;
+
+import com.travelplanner.dto.HotelResponse;
+
+/**
+ * Receives progress while hotel recommendations are being resolved.
+ * Callbacks arrive on lookup worker threads, so implementations must be thread-safe.
+ */
+public interface HotelProgressListener {
+
+    HotelProgressListener NONE = new HotelProgressListener() {};
+
+    /** Number of candidate hotels that will be looked up. */
+    default void onCandidates(int total) {}
+
+    /** One lookup finished; {@code hotel} is null when the lookup failed or was skipped. */
+    default void onLookupCompleted(HotelResponse hotel) {}
+
+    /**
+     * The result will be incomplete or stale: a provider search failed and the catalog
+     * answered instead, lookups passed the deadline, or a cluster search failed.
+     */
+    default void onDegraded(String reason) {}
+}
@@ -0,0 +1,100 @@
+package com.travelplanner.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.travelplanner.dto.HotelResponse;
+
+/**
+ * State of one background recommendation run. Progress callbacks arrive from
+ * lookup threads while pollers read snapshots from request threads.
+ */
+public class HotelRecommendationJob implements HotelProgressListener {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long tripId;
+    private final long createdAtMillis = System.currentTimeMillis();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile int total = -1;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final List<HotelResponse> hotels = new ArrayList<>();
+    private volatile long startedAtMillis;
+    private volatile long finishedAtMillis;
+    private volatile String error;
+
+    public HotelRecommendationJob(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    void markRunning() {
+        startedAtMillis = System.currentTimeMillis();
+        status = Status.RUNNING;
+    }
+
+    void markCompleted(List<HotelResponse> ranked) {
+        synchronized (hotels) {
+            hotels.clear();
+            hotels.addAll(ranked);
+        }
+        finishedAtMillis = System.currentTimeMillis();
+        status = Status.COMPLETED;
+    }
+
+    void markFailed(String message) {
+        error = message;
+        finishedAtMillis = System.currentTimeMillis();
+        status = Status.FAILED;
+    }
+
+    @Override
+    public void onCandidates(int total) {
+        this.total = total;
+    }
+
+    @Override
+    public void onLookupCompleted(HotelResponse hotel) {
+        if (hotel != null) {
+            synchronized (hotels) {
+                hotels.add(hotel);
+            }
+        }
+        completed.incrementAndGet();
+    }
+
+    public String getId() { return id; }
+    public Long getTripId() { return tripId; }
+    public Status getStatus() { return status; }
+    public int getTotal() { return total; }
+    public int getCompleted() { return completed.get(); }
+    public String getError() { return error; }
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    public long getFinishedAtMillis() { return finishedAtMillis; }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public List<HotelResponse> getHotelsSnapshot() {
+        synchronized (hotels) {
+            return new ArrayList<>(hotels);
+        }
+    }
+
+    /** Remaining seconds extrapolated from the average lookup time so far, or null if unknown. */
+    public Long getEtaSeconds() {
+        if (isFinished()) return 0L;
+        int done = completed.get();
+        if (status != Status.RUNNING || total < 0 || done == 0) return null;
+
+        long elapsed = System.currentTimeMillis() - startedAtMillis;
+        long remaining = (long) ((double) elapsed / done * Math.max(0, total - done));
+        return (remaining + 999) / 1000;
+    }
+}
@@ -0,0 +1,99 @@
+package com.travelplanner.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.travelplanner.dto.HotelJobResponse;
+import com.travelplanner.dto.HotelResponse;
+import com.travelplanner.repository.TripRepository;
+
+@Service
+public class HotelRecommendationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelRecommendationJobService.class);
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    @Qualifier("hotelJobExecutor")
+    private ExecutorService hotelJobExecutor;
+
+    @Value("${hotels.jobs.retention-minutes:30}")
+    private long retentionMinutes;
+
+    private final Map<String, HotelRecommendationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, HotelRecommendationJob> inFlightByTrip = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a recommendation job for the trip, or returns the job already running for it.
+     * Throws RejectedExecutionException when the job queue is full.
+     */
+    public HotelRecommendationJob submit(Long tripId) {
+        if (!tripRepository.existsById(tripId)) {
+            throw new RuntimeException("Trip not found");
+        }
+        purgeFinishedJobs();
+
+        return inFlightByTrip.computeIfAbsent(tripId, id -> {
+            HotelRecommendationJob job = new HotelRecommendationJob(id);
+            jobs.put(job.getId(), job);
+            try {
+                hotelJobExecutor.execute(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.getId());
+                throw e;
+            }
+            return job;
+        });
+    }
+
+    public Optional<HotelRecommendationJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(HotelRecommendationJob job) {
+        job.markRunning();
+        try {
+            List<HotelResponse> hotels = hotelService.getRecommendationsByTrip(job.getTripId(), job);
+            job.markCompleted(hotels);
+        } catch (Exception e) {
+            logger.error("Hotel recommendation job {} for trip {} failed", job.getId(), job.getTripId(), e);
+            job.markFailed(e.getMessage());
+        } finally {
+            inFlightByTrip.remove(job.getTripId(), job);
+        }
+    }
+
+    private void purgeFinishedJobs() {
+        long cutoff = System.currentTimeMillis() - retentionMinutes * 60_000;
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAtMillis() < cutoff);
+    }
+
+    public HotelJobResponse toResponse(HotelRecommendationJob job) {
+        HotelJobResponse response = new HotelJobResponse();
+        response.setJobId(job.getId());
+        response.setTripId(job.getTripId());
+        response.setStatus(job.getStatus().toString());
+        response.setCompleted(job.getCompleted());
+        response.setTotal(job.getTotal());
+        response.setEtaSeconds(job.getEtaSeconds());
+        response.setError(job.getError());
+        response.setHotels(job.getHotelsSnapshot());
+        return response;
+    }
+}
@@ -1,162 +1,453 @@
 package com.travelplanner.service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.json.JSONArray;
-import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.travelplanner.dto.HotelDetail;
 import com.travelplanner.dto.HotelResponse;
 import com.travelplanner.entity.Destination;
-import com.travelplanner.entity.Trip;
 import com.travelplanner.entity.TripDestination;
+import com.travelplanner.repository.TripDestinationRepository;
 import com.travelplanner.repository.TripRepository;
+import com.travelplanner.service.provider.HotelProvider;
+import com.travelplanner.util.DistanceMatrix;
+import com.travelplanner.util.GeoClustering;
+import com.travelplanner.util.GeoUtils;
+import com.travelplanner.util.Geohash;
+import com.travelplanner.util.SingleFlight;
 
 @Service
 public class HotelService {
 
+    private static final Logger logger = LoggerFactory.getLogger(HotelService.class);
+
     @Autowired
     private TripRepository tripRepository;
 
-    private final String OPEN_TRIPMAP_KEY = "5ae2e3f221c38a28845f05b6479e5b543bc57757bbe58690c3e64236";
-    private final String UNSPLASH_KEY = "TnRwUjj4rJiXqRFekOHnoFhRkYd-M70z1ZZl4K7IpzM";
-    private final String UNSPLASH_FALLBACK = "deaultHotel.jpg";
+    @Autowired
+    private TripDestinationRepository tripDestinationRepository;
+
+    @Autowired
+    private HotelProvider hotelProvider;
+
+    @Autowired
+    @Qualifier("hotelLookupExecutor")
+    private ExecutorService hotelLookupExecutor;
+
+    @Autowired
+    private PlaceSearchCacheService placeSearchCacheService;
+
+    @Autowired
+    private HotelDetailCache hotelDetailCache;
+
+    @Autowired
+    private HotelCatalogService hotelCatalogService;
+
+    @Autowired
+    private HotelImageService hotelImageService;
+
+    @Autowired
+    private ImageProxyService imageProxyService;
+
+    @Autowired
+    @Qualifier("hotelClusterExecutor")
+    private ExecutorService hotelClusterExecutor;
+
+    @Value("${hotels.cluster.threshold-km:16}")
+    private double clusterThresholdKm;
+
+    @Value("${hotels.lookup.deadline-ms:15000}")
+    private long lookupDeadlineMs;
+
+    private final SingleFlight<String, Flight> recommendationFlights = new SingleFlight<>();
+
+    private static final int SEARCH_RADIUS_METERS = 8000;
+    private static final String SEARCH_KINDS = "accomodations";
+    private static final int SEARCH_LIMIT = 20;
 
     public List<HotelResponse> getRecommendationsByTrip(Long tripId) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new RuntimeException("Trip not found"));
+        return getRecommendationsByTrip(tripId, HotelProgressListener.NONE);
+    }
 
-        List<TripDestination> destinations = trip.getTripDestinations();
-        if (destinations == null || destinations.isEmpty()) return Collections.emptyList();
+    // Safe to call off the request thread: destinations are fetch-joined rather than lazily loaded
+    public List<HotelResponse> getRecommendationsByTrip(Long tripId, HotelProgressListener listener) {
+        if (!tripRepository.existsById(tripId)) {
+            throw new RuntimeException("Trip not found");
+        }
+
+        List<TripDestination> destinations = tripDestinationRepository.findByTripIdWithDestination(tripId);
+        if (destinations.isEmpty()) return Collections.emptyList();
+
+        // Identical concurrent queries share one provider crawl; late joiners get the
+        // leader's result replayed to their listener instead of live progress.
+        boolean[] leader = new boolean[1];
+        Flight flight = recommendationFlights.execute(flightKey(destinations), () -> {
+            leader[0] = true;
+            DegradationListener tracking = new DegradationListener(listener);
+            List<HotelResponse> hotels = fetchForClusters(destinations, tracking);
+            return new Flight(hotels, tracking.reason);
+        });
+        if (!leader[0]) {
+            listener.onCandidates(flight.hotels.size());
+            for (HotelResponse hotel : flight.hotels) listener.onLookupCompleted(hotel);
+            if (flight.degradedReason != null) listener.onDegraded(flight.degradedReason);
+        }
+        return new ArrayList<>(flight.hotels);
+    }
 
-        double avgLat = destinations.stream()
-                .mapToDouble(d -> d.getDestination().getLatitude().doubleValue())
-                .average().orElse(0);
-        double avgLon = destinations.stream()
-                .mapToDouble(d -> d.getDestination().getLongitude().doubleValue())
-                .average().orElse(0);
+    // A shared crawl's result, with the first degradation the leader saw so joiners learn of it too
+    private static final class Flight {
+        final List<HotelResponse> hotels;
+        final String degradedReason;
 
-        return fetchNearbyHotels(avgLat, avgLon, destinations);
+        Flight(List<HotelResponse> hotels, String degradedReason) {
+            this.hotels = hotels;
+            this.degradedReason = degradedReason;
+        }
     }
 
-    private List<HotelResponse> fetchNearbyHotels(double lat, double lon, List<TripDestination> tripDestinations) {
-        List<HotelResponse> hotels = new ArrayList<>();
-        HttpClient client = HttpClient.newHttpClient();
+    private static class DegradationListener implements HotelProgressListener {
+        private final HotelProgressListener delegate;
+        private volatile String reason;
 
-        try {
-            String radiusUrl = String.format(
-                "https://api.opentripmap.com/0.1/en/places/radius?radius=8000&lon=%f&lat=%f&kinds=accomodations&format=json&limit=20&apikey=%s",
-                lon, lat, OPEN_TRIPMAP_KEY);
+        DegradationListener(HotelProgressListener delegate) {
+            this.delegate = delegate;
+        }
 
-            HttpResponse<String> radiusRes = client.send(
-                HttpRequest.newBuilder().uri(URI.create(radiusUrl)).build(),
-                HttpResponse.BodyHandlers.ofString());
+        @Override
+        public void onCandidates(int total) {
+            delegate.onCandidates(total);
+        }
 
-            JSONArray places = new JSONArray(radiusRes.body());
+        @Override
+        public void onLookupCompleted(HotelResponse hotel) {
+            delegate.onLookupCompleted(hotel);
+        }
 
-            for (int i = 0; i < places.length(); i++) {
-                JSONObject place = places.getJSONObject(i);
-                String xid = place.getString("xid");
+        @Override
+        public void onDegraded(String reason) {
+            if (this.reason == null) this.reason = reason;
+            delegate.onDegraded(reason);
+        }
+    }
 
-                Thread.sleep(500); // OpenTripMap rate limit
+    /** Identifies the recommendation query for a destination set, independent of destination order. */
+    static String flightKey(List<TripDestination> destinations) {
+        long[] ids = new long[destinations.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = destinations.get(i).getDestination().getId();
+        Arrays.sort(ids);
+        return Arrays.toString(ids) + ":" + SEARCH_RADIUS_METERS + ":" + SEARCH_KINDS;
+    }
 
-                HttpResponse<String> detailRes = client.send(
-                    HttpRequest.newBuilder()
-                        .uri(URI.create("https://api.opentripmap.com/0.1/en/places/xid/" + xid + "?apikey=" + OPEN_TRIPMAP_KEY))
-                        .build(),
-                    HttpResponse.BodyHandlers.ofString());
+    /**
+     * Searches around each cluster of nearby destinations instead of one centroid for the
+     * whole trip, so a Paris+Tokyo trip does not search the middle of Asia. Clusters are
+     * searched in parallel and ranked against their own destinations; the merged list is
+     * ordered by that per-cluster average distance. Every destination must lie inside its
+     * cluster's search circle, so the linkage threshold is capped at twice the search
+     * radius and a cluster whose destinations are not all within the radius of the
+     * snapped search centre (see {@link #searchPlaces}) is searched per destination.
+     */
+    private List<HotelResponse> fetchForClusters(List<TripDestination> destinations, HotelProgressListener listener) {
+        double[] lats = new double[destinations.size()];
+        double[] lons = new double[destinations.size()];
+        for (int i = 0; i < lats.length; i++) {
+            lats[i] = destinations.get(i).getDestination().getLatitude().doubleValue();
+            lons[i] = destinations.get(i).getDestination().getLongitude().doubleValue();
+        }
 
-                JSONObject detail = new JSONObject(detailRes.body());
+        double radiusKm = SEARCH_RADIUS_METERS / 1000.0;
+        List<int[]> clusters = new ArrayList<>();
+        for (int[] cluster : GeoClustering.clusterByDistance(lats, lons, Math.min(clusterThresholdKm, 2 * radiusKm))) {
+            double[] centroid = centroid(lats, lons, cluster);
+            double[] center = Geohash.decodeCenter(placeSearchCacheService.tileFor(centroid[0], centroid[1]));
+            boolean covered = true;
+            for (int index : cluster) {
+                covered &= GeoUtils.distanceKm(center[0], center[1], lats[index], lons[index]) <= radiusKm;
+            }
+            if (covered) {
+                clusters.add(cluster);
+            } else {
+                for (int index : cluster) clusters.add(new int[] { index });
+            }
+        }
+        if (clusters.size() == 1) {
+            double[] center = centroid(lats, lons, clusters.get(0));
+            return fetchNearbyHotels(center[0], center[1], destinations, listener);
+        }
 
-                String name = detail.optString("name", "Unnamed Hotel");
-                String address = Optional.ofNullable(detail.optJSONObject("address"))
-                        .map(a -> a.optString("road", "No address")).orElse("No address");
+        HotelProgressListener clusterListener =
+                listener == HotelProgressListener.NONE ? listener : new SummingListener(listener);
+        List<CompletableFuture<List<HotelResponse>>> searches = new ArrayList<>();
+        for (int[] cluster : clusters) {
+            List<TripDestination> members = new ArrayList<>(cluster.length);
+            for (int index : cluster) members.add(destinations.get(index));
+            double[] center = centroid(lats, lons, cluster);
+            searches.add(CompletableFuture.supplyAsync(
+                    () -> fetchNearbyHotels(center[0], center[1], members, clusterListener), hotelClusterExecutor));
+        }
 
-                JSONObject point = detail.optJSONObject("point");
-                double hotelLat = point != null ? point.optDouble("lat", lat) : lat;
-                double hotelLon = point != null ? point.optDouble("lon", lon) : lon;
+        List<HotelResponse> merged = new ArrayList<>();
+        for (CompletableFuture<List<HotelResponse>> search : searches) {
+            try {
+                merged.addAll(search.join());
+            } catch (CompletionException e) {
+                logger.warn("Hotel search for one destination cluster failed: {}", e.getMessage());
+                listener.onDegraded("cluster search failed");
+            }
+        }
+        merged.sort(Comparator.comparingDouble(HotelResponse::getAverageDistance));
+        return merged;
+    }
 
-                // Distance to each destination
-                Map<String, Double> distances = new LinkedHashMap<>();
-                double total = 0;
-                for (TripDestination td : tripDestinations) {
-                    Destination dest = td.getDestination();
-                    double d = calculateDistance(hotelLat, hotelLon,
-                            dest.getLatitude().doubleValue(), dest.getLongitude().doubleValue());
-                    distances.put(dest.getName(), d);
-                    total += d;
-                }
+    // Longitude is averaged on the circle so a cluster spanning the antimeridian (179, -179)
+    // is centred near 180 rather than 0
+    static double[] centroid(double[] lats, double[] lons, int[] indices) {
+        double lat = 0;
+        double sin = 0;
+        double cos = 0;
+        for (int index : indices) {
+            lat += lats[index];
+            sin += Math.sin(Math.toRadians(lons[index]));
+            cos += Math.cos(Math.toRadians(lons[index]));
+        }
+        return new double[] { lat / indices.length, Math.toDegrees(Math.atan2(sin, cos)) };
+    }
+
+    // Clusters report their candidate counts separately; listeners see the running total
+    private static class SummingListener implements HotelProgressListener {
+        private final HotelProgressListener delegate;
+        private final AtomicInteger candidates = new AtomicInteger();
 
-                double avg = total / distances.size();
-                double rating = detail.optDouble("rate", 0);
+        SummingListener(HotelProgressListener delegate) {
+            this.delegate = delegate;
+        }
 
-                String mapUrl = "https://www.google.com/maps/search/?api=1&query=" + hotelLat + "," + hotelLon;
+        @Override
+        public void onCandidates(int total) {
+            delegate.onCandidates(candidates.addAndGet(total));
+        }
 
-                // Use OpenTripMap preview image if available, else fetch from Unsplash
-                String imageUrl = Optional.ofNullable(detail.optJSONObject("preview"))
-                        .map(p -> p.optString("source"))
-                        .orElse(fetchUnsplashImage(name, address));
+        @Override
+        public void onLookupCompleted(HotelResponse hotel) {
+            delegate.onLookupCompleted(hotel);
+        }
 
-                hotels.add(new HotelResponse(name, address, rating, avg, imageUrl, distances, mapUrl));
+        @Override
+        public void onDegraded(String reason) {
+            delegate.onDegraded(reason);
+        }
+    }
+
+    // Wrappers only forward; per-hotel responses are worth building only for a real listener
+    private static boolean reportsProgress(HotelProgressListener listener) {
+        while (true) {
+            if (listener instanceof DegradationListener wrapper) {
+                listener = wrapper.delegate;
+            } else if (listener instanceof SummingListener wrapper) {
+                listener = wrapper.delegate;
+            } else {
+                return listener != HotelProgressListener.NONE;
             }
+        }
+    }
+
+    private List<HotelResponse> fetchNearbyHotels(double lat, double lon, List<TripDestination> tripDestinations,
+                                                  HotelProgressListener listener) {
+        // Answer from the local catalog when the region has fresh hotels
+        List<HotelDetail> local = hotelCatalogService.findFreshInRegion(lat, lon, SEARCH_RADIUS_METERS);
+        if (!local.isEmpty()) {
+            return answerFromCatalog(local, lat, lon, tripDestinations, listener);
+        }
 
-            hotels.sort(Comparator.comparingDouble(HotelResponse::getAverageDistance));
+        JSONArray places;
+        try {
+            places = new JSONArray(searchPlaces(lat, lon));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            listener.onDegraded("interrupted");
+            return new ArrayList<>();
         } catch (Exception e) {
-            e.printStackTrace();
+            // The provider is degraded: serve whatever the catalog has for this region, however old
+            logger.warn("Hotel provider search unavailable, falling back to catalog: {}", e.getMessage());
+            listener.onDegraded("provider search unavailable");
+            return answerFromCatalog(hotelCatalogService.findAnyInRegion(lat, lon, SEARCH_RADIUS_METERS),
+                    lat, lon, tripDestinations, listener);
+        }
+        listener.onCandidates(places.length());
+
+        // Fan the detail lookups out; the shared rate limiter keeps us inside the provider quota.
+        // Per-hotel responses are only built when someone is listening for progress.
+        boolean reportHotels = reportsProgress(listener);
+        List<CompletableFuture<HotelDetail>> lookups = new ArrayList<>();
+        for (int i = 0; i < places.length(); i++) {
+            String xid = places.getJSONObject(i).getString("xid");
+            lookups.add(CompletableFuture.supplyAsync(() -> {
+                HotelDetail detail = fetchHotelDetail(xid);
+                listener.onLookupCompleted(detail != null && reportHotels
+                        ? toHotelResponse(detail, lat, lon, tripDestinations) : null);
+                return detail;
+            }, hotelLookupExecutor));
+        }
+
+        // Bound the wait so a slow provider cannot pin the caller; late lookups still warm the caches
+        try {
+            CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0]))
+                    .get(lookupDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Hotel lookups exceeded {} ms; returning partial results", lookupDeadlineMs);
+            listener.onDegraded("lookup deadline exceeded");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            listener.onDegraded("interrupted");
+        } catch (ExecutionException e) {
+            logger.warn("Hotel lookup failed: {}", e.getMessage());
+            listener.onDegraded("lookup failed");
+        }
+
+        List<HotelDetail> fetched = new ArrayList<>(lookups.size());
+        for (CompletableFuture<HotelDetail> lookup : lookups) {
+            if (!lookup.isDone() || lookup.isCompletedExceptionally()) continue;
+            HotelDetail detail = lookup.join();
+            if (detail != null) fetched.add(detail);
+        }
+
+        // Only a search whose every candidate resolved counts as crawling the region
+        String crawledRegion = fetched.size() == places.length()
+                ? hotelCatalogService.regionKey(lat, lon, SEARCH_RADIUS_METERS) : null;
+        hotelCatalogService.ingestAsync(fetched, tripDestinations, crawledRegion);
+        return rank(fetched, lat, lon, tripDestinations, fetched.size());
+    }
+
+    private List<HotelResponse> answerFromCatalog(List<HotelDetail> details, double lat, double lon,
+                                                  List<TripDestination> tripDestinations,
+                                                  HotelProgressListener listener) {
+        List<HotelResponse> hotels = rank(details, lat, lon, tripDestinations, SEARCH_LIMIT);
+        listener.onCandidates(hotels.size());
+        for (HotelResponse hotel : hotels) listener.onLookupCompleted(hotel);
+        return hotels;
+    }
+
+    /**
+     * Orders hotels by mean distance to the trip's destinations and returns the nearest
+     * {@code limit}. Distances live in a primitive matrix; response objects and their
+     * distance maps are only built for the hotels that are returned.
+     */
+    private List<HotelResponse> rank(List<HotelDetail> details, double lat, double lon,
+                                     List<TripDestination> tripDestinations, int limit) {
+        if (details.isEmpty()) return new ArrayList<>();
+
+        DistanceMatrix matrix = distanceMatrix(tripDestinations, details.size());
+        for (HotelDetail detail : details) {
+            matrix.addRow(detail.getLatitude() != null ? detail.getLatitude() : lat,
+                    detail.getLongitude() != null ? detail.getLongitude() : lon);
         }
 
+        int[] top = matrix.topK(limit);
+        List<HotelResponse> hotels = new ArrayList<>(top.length);
+        for (int row : top) {
+            hotels.add(toHotelResponse(details.get(row), lat, lon, tripDestinations, matrix, row));
+        }
         return hotels;
     }
 
-    private String fetchUnsplashImage(String name, String location) {
+    private static DistanceMatrix distanceMatrix(List<TripDestination> tripDestinations, int expectedRows) {
+        double[] lats = new double[tripDestinations.size()];
+        double[] lons = new double[tripDestinations.size()];
+        for (int i = 0; i < lats.length; i++) {
+            Destination dest = tripDestinations.get(i).getDestination();
+            lats[i] = dest.getLatitude().doubleValue();
+            lons[i] = dest.getLongitude().doubleValue();
+        }
+        return new DistanceMatrix(lats, lons, expectedRows);
+    }
+
+    // Radius searches are snapped to the centre of the centroid's geohash tile and cached per tile
+    private String searchPlaces(double lat, double lon) throws Exception {
+        String tile = placeSearchCacheService.tileFor(lat, lon);
+        String cacheKey = placeSearchCacheService.cacheKey(tile, SEARCH_RADIUS_METERS, SEARCH_KINDS);
+        Optional<String> cached = placeSearchCacheService.get(cacheKey);
+        if (cached.isPresent()) return cached.get();
+
+        double[] center = Geohash.decodeCenter(tile);
+        String body;
         try {
-            String query = (name + " " + location).replaceAll(" ", "+");
-            String url = "https://api.unsplash.com/search/photos?query=" + query +
-                    "&client_id=" + UNSPLASH_KEY + "&per_page=1";
-
-            HttpClient client = HttpClient.newHttpClient();
-            HttpResponse<String> res = client.send(
-                    HttpRequest.newBuilder().uri(URI.create(url)).build(),
-                    HttpResponse.BodyHandlers.ofString());
-
-            if (res.statusCode() == 429) {
-                Thread.sleep(1500); // simple backoff if rate limited
-                return UNSPLASH_FALLBACK;
-            }
+            body = hotelProvider.searchPlaces(center[0], center[1], SEARCH_RADIUS_METERS, SEARCH_KINDS, SEARCH_LIMIT);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            return placeSearchCacheService.getIncludingExpired(cacheKey).orElseThrow(() -> e);
+        }
 
-            JSONObject json = new JSONObject(res.body());
-            JSONArray results = json.getJSONArray("results");
+        placeSearchCacheService.put(cacheKey, tile, body);
+        return body;
+    }
 
-            if (results.length() > 0) {
-                return results.getJSONObject(0)
-                        .getJSONObject("urls")
-                        .getString("small");
-            }
+    private HotelDetail fetchHotelDetail(String xid) {
+        try {
+            return hotelDetailCache.get(xid, hotelProvider::fetchDetail);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
-            // Logging omitted for brevity
+            logger.debug("Hotel detail lookup for {} failed: {}", xid, e.getMessage());
         }
+        return null;
+    }
 
-        return UNSPLASH_FALLBACK;
+    private HotelResponse toHotelResponse(HotelDetail detail, double lat, double lon,
+                                          List<TripDestination> tripDestinations) {
+        DistanceMatrix matrix = distanceMatrix(tripDestinations, 1);
+        int row = matrix.addRow(detail.getLatitude() != null ? detail.getLatitude() : lat,
+                detail.getLongitude() != null ? detail.getLongitude() : lon);
+        return toHotelResponse(detail, lat, lon, tripDestinations, matrix, row);
     }
 
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371; // Earth radius
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        return R * (2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)));
+    private HotelResponse toHotelResponse(HotelDetail detail, double lat, double lon,
+                                          List<TripDestination> tripDestinations,
+                                          DistanceMatrix matrix, int row) {
+        double hotelLat = detail.getLatitude() != null ? detail.getLatitude() : lat;
+        double hotelLon = detail.getLongitude() != null ? detail.getLongitude() : lon;
+
+        // Distance to each destination
+        Map<String, Double> distances = new LinkedHashMap<>();
+        for (int i = 0; i < tripDestinations.size(); i++) {
+            distances.put(tripDestinations.get(i).getDestination().getName(), matrix.distance(row, i));
+        }
+
+        String mapUrl = "https://www.google.com/maps/search/?api=1&query=" + hotelLat + "," + hotelLon;
+
+        // Use OpenTripMap preview image if available, else resolve one from Unsplash in the background
+        String imageUrl = detail.getPreviewUrl();
+        String imageToken = null;
+        if (imageUrl == null) {
+            imageToken = hotelImageService.tokenFor(detail.getName(), detail.getAddress());
+            imageUrl = hotelImageService.imageUrlOrPlaceholder(imageToken, detail.getName(), detail.getAddress());
+        }
+
+        HotelResponse hotel = new HotelResponse(detail.getName(), detail.getAddress(), detail.getRating(),
+                matrix.average(row), imageProxyService.proxiedUrl(imageUrl), distances, mapUrl);
+        hotel.setImageToken(imageToken);
+        return hotel;
     }
 }
@@ -0,0 +1,105 @@
+package com.travelplanner.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.travelplanner.dto.HotelResponse;
+import com.travelplanner.repository.TripRepository;
+
+/**
+ * Streams hotel recommendations as Server-Sent Events: one "hotel" event per
+ * resolved hotel, then a "ranking" event carrying the final ordered list.
+ */
+@Service
+public class HotelStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelStreamService.class);
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private ImageProxyService imageProxyService;
+
+    @Autowired
+    @Qualifier("hotelJobExecutor")
+    private ExecutorService hotelJobExecutor;
+
+    @Value("${hotels.stream.timeout-ms:120000}")
+    private long timeoutMs;
+
+    /** Throws RejectedExecutionException when the job executor is saturated. */
+    public SseEmitter stream(Long tripId) {
+        if (!tripRepository.existsById(tripId)) {
+            throw new RuntimeException("Trip not found");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // Events are written from worker threads, which cannot see this request's origin
+        EmitterListener listener = new EmitterListener(emitter, imageProxyService, imageProxyService.baseUrl());
+        emitter.onCompletion(listener::close);
+        emitter.onTimeout(listener::close);
+
+        hotelJobExecutor.execute(() -> {
+            try {
+                List<HotelResponse> ranked = hotelService.getRecommendationsByTrip(tripId, listener);
+                listener.send("ranking", ranked);
+                emitter.complete();
+            } catch (Exception e) {
+                logger.error("Streaming hotel recommendations for trip {} failed", tripId, e);
+                listener.send("error", e.getMessage() != null ? e.getMessage() : "Recommendation failed");
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    private static class EmitterListener implements HotelProgressListener {
+        private final SseEmitter emitter;
+        private final ImageProxyService imageProxyService;
+        private final String baseUrl;
+        private boolean closed;
+
+        EmitterListener(SseEmitter emitter, ImageProxyService imageProxyService, String baseUrl) {
+            this.emitter = emitter;
+            this.imageProxyService = imageProxyService;
+            this.baseUrl = baseUrl;
+        }
+
+        @Override
+        public void onCandidates(int total) {
+            send("candidates", total);
+        }
+
+        @Override
+        public void onLookupCompleted(HotelResponse hotel) {
+            if (hotel != null) send("hotel", hotel);
+        }
+
+        synchronized void send(String event, Object data) {
+            if (closed) return;
+            try {
+                imageProxyService.withBaseUrl(baseUrl, () -> emitter.send(SseEmitter.event().name(event).data(data)));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; keep resolving so the caches still warm up.
+                closed = true;
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+    }
+}
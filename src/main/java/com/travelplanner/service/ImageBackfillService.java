@@ -0,0 +1,247 @@
+package com.travelplanner.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelplanner.dto.ImageBackfillResponse;
+import com.travelplanner.entity.Destination;
+import com.travelplanner.entity.ImageBackfillCheckpoint;
+import com.travelplanner.repository.DestinationRepository;
+import com.travelplanner.repository.ImageBackfillCheckpointRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Admin-triggered backfill of Wikipedia thumbnails for destinations that have no
+ * image or only a placeholder. Pages through destinations by id (keyset), resolves
+ * each page with bounded parallelism under the Wikipedia rate limit, and commits
+ * the page's updates as one JDBC batch together with the checkpoint, so a stopped
+ * or crashed run resumes where it left off.
+ */
+@Service
+public class ImageBackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageBackfillService.class);
+
+    private static final String JOB_NAME = "destination-images";
+
+    private static final String UPDATE_SQL =
+            "UPDATE destinations SET image_url = COALESCE(?, image_url), image_status = ? WHERE id = ? AND name = ?";
+
+    @Autowired
+    private DestinationRepository destinationRepository;
+
+    @Autowired
+    private ImageBackfillCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private DestinationResponseCache responseCache;
+
+    @Autowired
+    private WikipediaImageService wikipediaImageService;
+
+    @Autowired
+    private DestinationImageEnrichmentService imageEnrichmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("imageBackfillExecutor")
+    private ExecutorService imageBackfillExecutor;
+
+    @Value("${destinations.backfill.page-size:100}")
+    private int pageSize;
+
+    @Value("${destinations.backfill.placeholder-prefix:/placeholder.svg}")
+    private String placeholderPrefix;
+
+    private final ExecutorService runner =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("image-backfill-"));
+
+    private volatile boolean running;
+    private volatile boolean stopRequested;
+    private volatile long runStartedNanos;
+    private volatile long runProcessed;
+
+    /** Starts (or resumes) the backfill; throws IllegalStateException if it is already running. */
+    public synchronized ImageBackfillResponse start(boolean restart) {
+        if (running) throw new IllegalStateException("Image backfill is already running");
+
+        ImageBackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> new ImageBackfillCheckpoint(JOB_NAME));
+        if (restart || "COMPLETED".equals(checkpoint.getStatus())) {
+            checkpoint = new ImageBackfillCheckpoint(JOB_NAME);
+        }
+        if (checkpoint.getStartedAt() == null) checkpoint.setStartedAt(LocalDateTime.now());
+        checkpoint.setStatus("RUNNING");
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpoint = checkpointRepository.save(checkpoint);
+
+        running = true;
+        stopRequested = false;
+        runStartedNanos = System.nanoTime();
+        runProcessed = 0;
+
+        ImageBackfillCheckpoint resumeFrom = checkpoint;
+        runner.execute(() -> run(resumeFrom));
+        return toResponse(checkpoint);
+    }
+
+    /** Asks a running backfill to stop after the page in progress. */
+    public ImageBackfillResponse stop() {
+        if (running) stopRequested = true;
+        return getProgress();
+    }
+
+    public ImageBackfillResponse getProgress() {
+        ImageBackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> {
+                    ImageBackfillCheckpoint idle = new ImageBackfillCheckpoint(JOB_NAME);
+                    idle.setStatus("IDLE");
+                    return idle;
+                });
+        ImageBackfillResponse response = toResponse(checkpoint);
+        // A checkpoint left RUNNING by a previous process can be resumed with start()
+        if ("RUNNING".equals(checkpoint.getStatus()) && !running) response.setStatus("INTERRUPTED");
+        if (running && stopRequested) response.setStatus("STOPPING");
+        return response;
+    }
+
+    private void run(ImageBackfillCheckpoint checkpoint) {
+        String finalStatus = "COMPLETED";
+        try {
+            while (!stopRequested) {
+                List<Destination> page = destinationRepository.findMissingImagesAfter(
+                        checkpoint.getLastDestinationId(), placeholderPrefix, PageRequest.of(0, pageSize));
+                if (page.isEmpty()) break;
+
+                commitPage(checkpoint, page, resolve(page));
+                runProcessed += page.size();
+            }
+            if (stopRequested) finalStatus = "STOPPED";
+        } catch (Exception e) {
+            logger.error("Image backfill failed after destination {}", checkpoint.getLastDestinationId(), e);
+            finalStatus = "FAILED";
+        } finally {
+            checkpoint.setStatus(finalStatus);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            try {
+                checkpointRepository.save(checkpoint);
+            } finally {
+                running = false;
+            }
+        }
+    }
+
+    // One lookup per destination on the bounded pool; the rate limit lives in WikipediaImageService
+    private List<Optional<String>> resolve(List<Destination> page) {
+        List<CompletableFuture<Optional<String>>> lookups = new ArrayList<>(page.size());
+        for (Destination destination : page) {
+            String title = destination.getName();
+            lookups.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return wikipediaImageService.findThumbnail(title);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                } catch (Exception e) {
+                    logger.debug("Backfill lookup for {} failed: {}", title, e.getMessage());
+                    return null;
+                }
+            }, imageBackfillExecutor));
+        }
+
+        List<Optional<String>> results = new ArrayList<>(page.size());
+        for (CompletableFuture<Optional<String>> lookup : lookups) results.add(lookup.join());
+        return results;
+    }
+
+    // null result = lookup failed; those go to the enrichment outbox for retries with backoff
+    private void commitPage(ImageBackfillCheckpoint checkpoint, List<Destination> page,
+                            List<Optional<String>> results) {
+        List<Object[]> updates = new ArrayList<>(page.size());
+        List<Destination> retries = new ArrayList<>();
+        long updated = 0, notFound = 0, failed = 0;
+
+        for (int i = 0; i < page.size(); i++) {
+            Destination destination = page.get(i);
+            Optional<String> result = results.get(i);
+            Destination.ImageStatus status;
+            if (result == null) {
+                status = Destination.ImageStatus.PENDING;
+                retries.add(destination);
+                failed++;
+            } else if (result.isPresent()) {
+                status = Destination.ImageStatus.READY;
+                updated++;
+            } else {
+                status = Destination.ImageStatus.NOT_FOUND;
+                notFound++;
+            }
+            updates.add(new Object[] {
+                    result != null ? result.orElse(null) : null, status.name(),
+                    destination.getId(), destination.getName() });
+        }
+
+        long lastId = page.get(page.size() - 1).getId();
+        long pageUpdated = updated, pageNotFound = notFound, pageFailed = failed;
+        transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            for (Destination destination : retries) imageEnrichmentService.enqueue(destination);
+
+            // Advance the checkpoint only once the page's updates are in the same transaction
+            checkpoint.setLastDestinationId(lastId);
+            checkpoint.setProcessed(checkpoint.getProcessed() + page.size());
+            checkpoint.setUpdated(checkpoint.getUpdated() + pageUpdated);
+            checkpoint.setNotFound(checkpoint.getNotFound() + pageNotFound);
+            checkpoint.setFailed(checkpoint.getFailed() + pageFailed);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+            return null;
+        });
+        for (Destination destination : page) responseCache.invalidate(destination.getId());
+    }
+
+    private ImageBackfillResponse toResponse(ImageBackfillCheckpoint checkpoint) {
+        ImageBackfillResponse response = new ImageBackfillResponse();
+        response.setStatus(checkpoint.getStatus());
+        response.setLastDestinationId(checkpoint.getLastDestinationId());
+        response.setProcessed(checkpoint.getProcessed());
+        response.setUpdated(checkpoint.getUpdated());
+        response.setNotFound(checkpoint.getNotFound());
+        response.setFailed(checkpoint.getFailed());
+        response.setStartedAt(checkpoint.getStartedAt());
+        response.setUpdatedAt(checkpoint.getUpdatedAt());
+        if (running) {
+            double seconds = (System.nanoTime() - runStartedNanos) / 1_000_000_000.0;
+            response.setDestinationsPerSecond(seconds > 0 ? runProcessed / seconds : 0);
+        }
+        return response;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stopRequested = true;
+        runner.shutdown();
+    }
+}
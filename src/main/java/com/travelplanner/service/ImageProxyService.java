@@ -0,0 +1,539 @@
+package com.travelplanner.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import com.travelplanner.util.BoundedBodySubscriber;
+import com.travelplanner.util.SingleFlight;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Serves third-party images (Wikipedia, Unsplash, OpenTripMap) from a local disk
+ * cache. Upstream URLs are rewritten to /api/images/{key}, where key is derived
+ * from the URL. That relative form is what gets stored and cached; responses make
+ * it absolute as they are serialized (see {@link AbsoluteUrlSerializer}), so each
+ * client gets the origin it called. The first request fetches the bytes once and stores them
+ * content-addressed under blobs/{sha256}, evicting least recently served blobs
+ * when the cache exceeds its size budget. Only URLs on images.proxy.allowed-hosts
+ * are proxied, and every hop (redirects included) must resolve to a public
+ * address, so stored image URLs cannot point the server at internal services.
+ */
+@Service
+public class ImageProxyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageProxyService.class);
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{32}");
+    private static final String PATH_PREFIX = "/api/images/";
+
+    private static final ThreadLocal<String> boundBaseUrl = new ThreadLocal<>();
+
+    /** Response-writing step for {@link #withBaseUrl}. */
+    @FunctionalInterface
+    public interface IoAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Serializes a stored image URL with {@link #absoluteUrl}. Jackson creates it through
+     * Spring, which injects the service; without one the value is written unchanged.
+     */
+    public static class AbsoluteUrlSerializer extends StdSerializer<String> {
+
+        @Autowired
+        private ImageProxyService imageProxyService;
+
+        public AbsoluteUrlSerializer() {
+            super(String.class);
+        }
+
+        @Override
+        public void serialize(String value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString(imageProxyService != null ? imageProxyService.absoluteUrl(value) : value);
+        }
+    }
+
+    /** A cached image ready to serve; {@code contentHash} doubles as the strong ETag. */
+    public static class CachedImage {
+        private final Path file;
+        private final String contentHash;
+        private final String contentType;
+        private final long size;
+
+        CachedImage(Path file, String contentHash, String contentType, long size) {
+            this.file = file;
+            this.contentHash = contentHash;
+            this.contentType = contentType;
+            this.size = size;
+        }
+
+        public Path getFile() { return file; }
+        public String getContentHash() { return contentHash; }
+        public String getContentType() { return contentType; }
+        public long getSize() { return size; }
+    }
+
+    @Autowired
+    private OutboundHttpClient outboundHttpClient;
+
+    @Value("${images.proxy.enabled:true}")
+    private boolean enabled;
+
+    @Value("${images.proxy.public-base-url:}")
+    private String publicBaseUrl;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${images.proxy.cache-dir:image-cache}")
+    private String cacheDir;
+
+    @Value("${images.proxy.max-cache-mb:512}")
+    private long maxCacheMb;
+
+    @Value("${images.proxy.max-image-bytes:10485760}")
+    private long maxImageBytes;
+
+    @Value("${images.proxy.allowed-hosts:wikimedia.org,wikipedia.org,unsplash.com,opentripmap.com}")
+    private List<String> allowedHosts;
+
+    @Value("${images.proxy.max-redirects:3}")
+    private int maxRedirects;
+
+    @Value("${images.proxy.max-sources:50000}")
+    private int maxSources;
+
+    private Path sourcesDir;
+    private Path refsDir;
+    private Path blobsDir;
+    private Path tmpDir;
+
+    private final Map<String, String> sources = new ConcurrentHashMap<>();
+    private final AtomicInteger sourceFiles = new AtomicInteger();
+    private final SingleFlight<String, CachedImage> fetches = new SingleFlight<>();
+
+    // Blob sizes in least-recently-served order; guarded by itself
+    private final LinkedHashMap<String, Long> blobs = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    @PostConstruct
+    void init() throws IOException {
+        Path root = Paths.get(cacheDir);
+        sourcesDir = Files.createDirectories(root.resolve("sources"));
+        refsDir = Files.createDirectories(root.resolve("refs"));
+        blobsDir = Files.createDirectories(root.resolve("blobs"));
+        tmpDir = Files.createDirectories(root.resolve("tmp"));
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(sourcesDir)) {
+            for (Path ignored : stream) sourceFiles.incrementAndGet();
+        }
+        pruneSources();
+
+        // Rebuild the LRU from disk, oldest first
+        List<Path> existing = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(blobsDir)) {
+            for (Path blob : stream) existing.add(blob);
+        }
+        existing.sort(Comparator.comparingLong(this::lastModified));
+        synchronized (blobs) {
+            for (Path blob : existing) {
+                long size = Files.size(blob);
+                blobs.put(blob.getFileName().toString(), size);
+                totalBytes += size;
+            }
+        }
+        evictOverflow();
+    }
+
+    /**
+     * Relative proxy URL (/api/images/{key}) for an upstream image, for storing and
+     * caching; {@link #absoluteUrl} makes it absolute for a response. The input is
+     * returned unchanged when proxying is
+     * disabled, the value is not an absolute http(s) URL (placeholders, nulls) or
+     * its host is not on the allowlist.
+     */
+    public String proxiedUrl(String url) {
+        if (!enabled || url == null || !(url.startsWith("https://") || url.startsWith("http://"))) return url;
+        // Anything else is left for the browser to load directly
+        if (!isAllowedHost(url)) return url;
+
+        String key = keyFor(url);
+        if (sources.putIfAbsent(key, url) == null) persistSource(key, url);
+        return PATH_PREFIX + key;
+    }
+
+    /**
+     * The proxy URL made absolute, for writing into a response: the frontend runs on
+     * another origin and would resolve /api/images/... against itself. Other values
+     * are returned unchanged.
+     */
+    public String absoluteUrl(String url) {
+        if (url == null || !url.startsWith(PATH_PREFIX)) return url;
+        return baseUrl() + url;
+    }
+
+    /**
+     * Runs {@code action} with {@link #absoluteUrl} resolving against {@code baseUrl},
+     * for responses written off the request thread (server-sent events).
+     */
+    public void withBaseUrl(String baseUrl, IoAction action) throws IOException {
+        String previous = boundBaseUrl.get();
+        boundBaseUrl.set(baseUrl);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                boundBaseUrl.set(previous);
+            } else {
+                boundBaseUrl.remove();
+            }
+        }
+    }
+
+    /**
+     * Origin absolute URLs point at: the configured public-base-url, else one bound by
+     * {@link #withBaseUrl}, else the origin of the request being served, else this
+     * server on localhost.
+     */
+    public String baseUrl() {
+        if (!publicBaseUrl.isEmpty()) return publicBaseUrl;
+        String bound = boundBaseUrl.get();
+        if (bound != null) return bound;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes) {
+            return ServletUriComponentsBuilder.fromCurrentContextPath().toUriString();
+        }
+        return "http://localhost:" + serverPort;
+    }
+
+    /** The cached image for the key, fetching it upstream on first use; null for unknown keys. */
+    public CachedImage get(String key) throws IOException {
+        if (!KEY_PATTERN.matcher(key).matches()) return null;
+
+        CachedImage cached = readRef(key);
+        if (cached != null) return cached;
+
+        String url = source(key);
+        // Sources persisted before the allowlist existed are not trusted either
+        if (url == null || !isAllowedHost(url)) return null;
+
+        try {
+            return fetches.execute(key, () -> fetch(key, url));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private CachedImage fetch(String key, String url) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(tmpDir, key, ".part");
+            // Stops reading once the body passes max-image-bytes instead of checking after the download;
+            // redirect bodies are discarded
+            HttpResponse.BodyHandler<Path> toFile =
+                    BoundedBodySubscriber.handler(HttpResponse.BodyHandlers.ofFile(tmp), maxImageBytes);
+            HttpResponse.BodyHandler<Path> handler = info -> info.statusCode() / 100 == 3
+                    ? HttpResponse.BodySubscribers.replacing(null) : toFile.apply(info);
+
+            // The images provider does not follow redirects itself, so each hop is vetted here
+            URI target = URI.create(url);
+            HttpResponse<Path> res;
+            for (int hop = 0; ; hop++) {
+                checkUpstream(target);
+                res = outboundHttpClient.send(OutboundHttpClient.IMAGES, target, handler);
+                if (res.statusCode() / 100 != 3) break;
+                if (hop >= maxRedirects) throw new IOException("Too many redirects for image " + key);
+                String location = res.headers().firstValue("Location")
+                        .orElseThrow(() -> new IOException("Image redirect without a Location header"));
+                target = target.resolve(location);
+            }
+            if (res.statusCode() != 200) {
+                throw new IOException("Image upstream returned status " + res.statusCode());
+            }
+            if (res.body() == null) {
+                throw new IOException("Image exceeds the proxy limit of " + maxImageBytes + " bytes");
+            }
+
+            String contentType = res.headers().firstValue("Content-Type").orElse("application/octet-stream");
+            if (!contentType.startsWith("image/")) {
+                throw new IOException("Image upstream returned " + contentType);
+            }
+            long size = Files.size(tmp);
+
+            String contentHash = sha256(tmp);
+            Path blob = blobsDir.resolve(contentHash);
+            if (Files.exists(blob)) {
+                Files.delete(tmp); // same bytes already cached under another URL
+            } else {
+                Files.move(tmp, blob, StandardCopyOption.ATOMIC_MOVE);
+            }
+            tmp = null;
+
+            writeRef(key, contentHash, contentType);
+            track(contentHash, size);
+            evictOverflow();
+            return new CachedImage(blob, contentHash, contentType, size);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted while fetching image", e));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // left for the next startup to overwrite
+                }
+            }
+        }
+    }
+
+    /**
+     * A derived file (e.g. a resized variant) stored beside the blobs under the same size
+     * budget; null when it has not been generated or has been evicted.
+     */
+    public CachedImage cachedDerivative(String name, String contentType) {
+        Long size;
+        synchronized (blobs) {
+            size = blobs.get(name);
+        }
+        Path file = blobsDir.resolve(name);
+        if (size == null || !Files.exists(file)) return null;
+        return new CachedImage(file, name, contentType, size);
+    }
+
+    /** Moves a finished temp file into the cache as a derivative and returns it. */
+    public CachedImage storeDerivative(String name, String contentType, Path tmp) throws IOException {
+        Path file = blobsDir.resolve(name);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long size = Files.size(file);
+        track(name, size);
+        evictOverflow();
+        return new CachedImage(file, name, contentType, size);
+    }
+
+    public Path createTempFile(String prefix) throws IOException {
+        return Files.createTempFile(tmpDir, prefix, ".part");
+    }
+
+    boolean isAllowedHost(String url) {
+        String host;
+        try {
+            URI uri = new URI(url);
+            if (!"https".equalsIgnoreCase(uri.getScheme()) && !"http".equalsIgnoreCase(uri.getScheme())) return false;
+            host = uri.getHost();
+        } catch (URISyntaxException e) {
+            return false;
+        }
+        if (host == null) return false;
+
+        host = host.toLowerCase(Locale.ROOT);
+        for (String allowed : allowedHosts) {
+            String suffix = allowed.trim().toLowerCase(Locale.ROOT);
+            if (!suffix.isEmpty() && (host.equals(suffix) || host.endsWith("." + suffix))) return true;
+        }
+        return false;
+    }
+
+    // Allowlisted host that also resolves only to public addresses (no loopback, private or link-local)
+    private void checkUpstream(URI uri) throws IOException {
+        if (!isAllowedHost(uri.toString())) throw new IOException("Image host not allowed: " + uri.getHost());
+        for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+            if (!isPublicAddress(address)) {
+                throw new IOException("Image host " + uri.getHost() + " resolves to a non-public address");
+            }
+        }
+    }
+
+    static boolean isPublicAddress(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet6Address) {
+            return (bytes[0] & 0xfe) != 0xfc; // fc00::/7 unique local
+        }
+        // 100.64.0.0/10 carrier-grade NAT, also used for cloud metadata and internal load balancers
+        return !((bytes[0] & 0xff) == 100 && (bytes[1] & 0xc0) == 64);
+    }
+
+    // refs/{key} holds "contentHash\ncontentType"; a ref whose blob was evicted is a miss
+    private CachedImage readRef(String key) throws IOException {
+        Path ref = refsDir.resolve(key);
+        if (!Files.exists(ref)) return null;
+
+        String[] lines = Files.readString(ref, StandardCharsets.UTF_8).split("\n", 2);
+        if (lines.length < 2) return null;
+        Path blob = blobsDir.resolve(lines[0]);
+
+        Long size;
+        synchronized (blobs) {
+            size = blobs.get(lines[0]); // marks the blob as recently served
+        }
+        if (size == null || !Files.exists(blob)) return null;
+        return new CachedImage(blob, lines[0], lines[1].trim(), size);
+    }
+
+    private void writeRef(String key, String contentHash, String contentType) throws IOException {
+        writeAtomically(refsDir.resolve(key), contentHash + "\n" + contentType);
+    }
+
+    private String source(String key) throws IOException {
+        String url = sources.get(key);
+        if (url != null) return url;
+
+        Path file = sourcesDir.resolve(key);
+        if (!Files.exists(file)) return null;
+        url = Files.readString(file, StandardCharsets.UTF_8).trim();
+        sources.putIfAbsent(key, url);
+        return url;
+    }
+
+    private void persistSource(String key, String url) {
+        Path file = sourcesDir.resolve(key);
+        if (Files.exists(file)) return;
+        try {
+            writeAtomically(file, url);
+        } catch (IOException e) {
+            logger.warn("Could not persist image source {}: {}", key, e.getMessage());
+            return;
+        }
+        if (sourceFiles.incrementAndGet() > maxSources) pruneSources();
+    }
+
+    /**
+     * Keeps sources/ (one file per URL ever rewritten) within max-sources by deleting
+     * the oldest tenth, together with their refs. A pruned URL is persisted again the
+     * next time a response rewrites it; its blob stays under the blob LRU.
+     */
+    private synchronized void pruneSources() {
+        if (sourceFiles.get() <= maxSources) return;
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(sourcesDir)) {
+            for (Path file : stream) files.add(file);
+        } catch (IOException e) {
+            logger.warn("Could not list image sources for pruning: {}", e.getMessage());
+            return;
+        }
+        files.sort(Comparator.comparingLong(this::lastModified));
+
+        int target = maxSources - maxSources / 10;
+        int excess = files.size() - target;
+        for (int i = 0; i < excess; i++) {
+            String key = files.get(i).getFileName().toString();
+            sources.remove(key);
+            try {
+                Files.deleteIfExists(files.get(i));
+                Files.deleteIfExists(refsDir.resolve(key));
+            } catch (IOException e) {
+                logger.warn("Could not prune image source {}: {}", key, e.getMessage());
+            }
+        }
+        sourceFiles.set(Math.min(files.size(), target));
+    }
+
+    private void writeAtomically(Path file, String content) throws IOException {
+        Path tmp = Files.createTempFile(tmpDir, "meta", ".tmp");
+        Files.writeString(tmp, content, StandardCharsets.UTF_8);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void track(String contentHash, long size) {
+        synchronized (blobs) {
+            if (blobs.put(contentHash, size) == null) totalBytes += size;
+        }
+    }
+
+    private void evictOverflow() {
+        long maxBytes = maxCacheMb * 1024 * 1024;
+        List<String> evicted = new ArrayList<>();
+        synchronized (blobs) {
+            Iterator<Map.Entry<String, Long>> it = blobs.entrySet().iterator();
+            while (totalBytes > maxBytes && blobs.size() > 1 && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                it.remove();
+            }
+        }
+        for (String contentHash : evicted) {
+            try {
+                Files.deleteIfExists(blobsDir.resolve(contentHash));
+            } catch (IOException e) {
+                logger.warn("Could not evict cached image {}: {}", contentHash, e.getMessage());
+            }
+        }
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String keyFor(String url) {
+        return sha256Hex(url.getBytes(StandardCharsets.UTF_8)).substring(0, 32);
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) digest.update(buffer, 0, read);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
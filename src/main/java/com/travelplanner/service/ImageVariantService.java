@@ -0,0 +1,265 @@
+package com.travelplanner.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.travelplanner.service.ImageProxyService.CachedImage;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Width-bucketed resized variants of proxied images. Variants are generated
+ * lazily with ImageIO on the bounded imageResizeExecutor and cached beside the
+ * originals as {sourceHash}-{width}.{format}. Dimensions are read from the
+ * header before decoding; sources over images.variants.max-pixels are decoded
+ * subsampled, or served as-is when even that would not fit. If the pool is saturated or a
+ * resize overruns its wait or fails, there is no variant yet and the caller
+ * serves the original without long-lived caching.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantService.class);
+
+    @Autowired
+    private ImageProxyService imageProxyService;
+
+    @Autowired
+    @Qualifier("imageResizeExecutor")
+    private ExecutorService imageResizeExecutor;
+
+    @Value("${images.variants.widths:160,320,640,1024}")
+    private int[] widths;
+
+    @Value("${images.variants.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${images.variants.wait-ms:5000}")
+    private long waitMs;
+
+    // ~160 MB as decoded ARGB; bounds what a small but highly compressible file can expand to
+    @Value("${images.variants.max-pixels:40000000}")
+    private long maxPixels;
+
+    private final Map<String, CompletableFuture<CachedImage>> inFlight = new ConcurrentHashMap<>();
+    // Variants that would not be smaller than the source (or cannot be decoded); serve the original
+    private final Set<String> passThrough = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        widths = Arrays.stream(widths).filter(w -> w > 0).sorted().distinct().toArray();
+    }
+
+    /**
+     * The variant of {@code source} for the smallest configured width that covers
+     * {@code requestedWidth}, or {@code source} itself when no smaller variant applies.
+     * Null when the variant is not available right now (pool saturated, still resizing
+     * or failed); the original is then only a stand-in for this response.
+     */
+    public CachedImage variant(CachedImage source, int requestedWidth, String requestedFormat) {
+        String format = outputFormat(source.getContentType(), requestedFormat);
+        if (format == null || widths.length == 0) return source;
+
+        int width = bucket(requestedWidth);
+        String name = source.getContentHash() + "-" + width + "." + format;
+        String contentType = "jpg".equals(format) ? "image/jpeg" : "image/png";
+        if (passThrough.contains(name)) return source;
+
+        CachedImage cached = imageProxyService.cachedDerivative(name, contentType);
+        if (cached != null) return cached;
+
+        CompletableFuture<CachedImage> resize;
+        try {
+            resize = inFlight.computeIfAbsent(name, n -> CompletableFuture.supplyAsync(
+                    () -> generate(source, width, format, name, contentType), imageResizeExecutor));
+        } catch (RejectedExecutionException e) {
+            return null; // resize pool is saturated
+        }
+        resize.whenComplete((result, error) -> inFlight.remove(name, resize));
+
+        try {
+            CachedImage result = resize.get(waitMs, TimeUnit.MILLISECONDS);
+            return result != null ? result : source;
+        } catch (TimeoutException e) {
+            return null; // keeps running and is cached for the next request
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            logger.warn("Resizing {} failed: {}", name, e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    private CachedImage generate(CachedImage source, int width, String format, String name, String contentType) {
+        Path tmp = null;
+        try {
+            BufferedImage original = decode(source.getFile(), width);
+            if (original == null || original.getWidth() <= width) {
+                passThrough.add(name);
+                return null;
+            }
+
+            int height = Math.max(1, Math.round(original.getHeight() * (width / (float) original.getWidth())));
+            BufferedImage resized = resize(original, width, height, "jpg".equals(format));
+
+            tmp = imageProxyService.createTempFile("variant");
+            write(resized, format, tmp);
+            CachedImage variant = imageProxyService.storeDerivative(name, contentType, tmp);
+            tmp = null;
+            return variant;
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } finally {
+            if (tmp != null) tmp.toFile().delete();
+        }
+    }
+
+    /**
+     * Decodes the image, subsampled when its header dimensions exceed max-pixels. Null when
+     * there is no reader, the source is no wider than {@code width} (nothing to do), or it
+     * would stay over budget without subsampling below {@code width}.
+     */
+    BufferedImage decode(Path file, int width) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long sourceWidth = reader.getWidth(0);
+                long sourceHeight = reader.getHeight(0);
+                if (sourceWidth <= width) return null;
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                long pixels = sourceWidth * sourceHeight;
+                if (pixels > maxPixels) {
+                    // Every step-th pixel in each direction; the resize pass smooths the result
+                    int step = (int) Math.ceil(Math.sqrt((double) pixels / maxPixels));
+                    if (sourceWidth / step < width) {
+                        logger.info("Not resizing {}x{} image {}: over the pixel budget",
+                                sourceWidth, sourceHeight, file.getFileName());
+                        return null;
+                    }
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Halve in steps until within 2x of the target, then one bilinear pass; cheaper than
+    // bicubic from full size and avoids the aliasing of a single large bilinear step
+    private static BufferedImage resize(BufferedImage image, int targetWidth, int targetHeight, boolean opaque) {
+        int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage current = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            if (w < targetWidth * 2) {
+                w = targetWidth;
+                h = targetHeight;
+            }
+
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                if (opaque) {
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, w, h);
+                }
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    private void write(BufferedImage image, String format, Path file) throws IOException {
+        if (!"jpg".equals(format)) {
+            if (!ImageIO.write(image, "png", file.toFile())) throw new IOException("No PNG writer");
+            return;
+        }
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) throw new IOException("No JPEG writer");
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private int bucket(int requestedWidth) {
+        for (int width : widths) {
+            if (width >= requestedWidth) return width;
+        }
+        return widths[widths.length - 1];
+    }
+
+    // ImageIO reads JPEG, PNG, GIF and BMP; anything else (WebP, SVG) is served as-is
+    private static String outputFormat(String contentType, String requested) {
+        if (requested != null) {
+            String format = requested.toLowerCase(Locale.ROOT);
+            if (format.equals("jpeg")) format = "jpg";
+            return format.equals("jpg") || format.equals("png") ? format : null;
+        }
+        switch (contentType.split(";")[0].trim()) {
+            case "image/jpeg":
+                return "jpg";
+            case "image/png":
+            case "image/gif":
+            case "image/bmp":
+                return "png";
+            default:
+                return null;
+        }
+    }
+}
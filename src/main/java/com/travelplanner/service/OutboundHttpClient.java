@@ -0,0 +1,177 @@
+package com.travelplanner.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import com.travelplanner.dto.ProviderMetricsResponse;
+import com.travelplanner.exception.ProviderUnavailableException;
+import com.travelplanner.util.CircuitBreaker;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Single entry point for calls to third-party APIs. Every provider shares the
+ * pooled HTTP/2 client but gets its own read timeout, semaphore bulkhead,
+ * circuit breaker and metrics, configured as outbound.providers.{provider}.*.
+ * A provider with follow-redirects=false gets 3xx responses back so the caller
+ * can vet each Location itself. transport=record captures successful GETs into
+ * outbound.recordings.dir and transport=replay answers from them offline; both
+ * sit below the bulkhead and breaker, so a benchmark exercises the same limits.
+ */
+@Service
+public class OutboundHttpClient {
+
+    public static final String OPENTRIPMAP = "opentripmap";
+    public static final String UNSPLASH = "unsplash";
+    public static final String WIKIPEDIA = "wikipedia";
+    public static final String IMAGES = "images";
+
+    private static final String RECORD = "record";
+    private static final String REPLAY = "replay";
+
+    @Autowired
+    @Qualifier("outboundHttpClient")
+    private HttpClient outboundHttpClient;
+
+    @Autowired
+    @Qualifier("outboundNoRedirectHttpClient")
+    private HttpClient noRedirectHttpClient;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${outbound.recordings.dir:replay}")
+    private String recordingsDir;
+
+    @Value("${outbound.replay.latency-ms:0}")
+    private long replayLatencyMs;
+
+    @Value("${outbound.replay.latency-jitter-ms:0}")
+    private long replayLatencyJitterMs;
+
+    @Value("${outbound.replay.rate-limit-ratio:0}")
+    private double replayRateLimitRatio;
+
+    private ProviderRecordings recordings;
+    private ReplayTransport replayTransport;
+
+    private final Map<String, Provider> providers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        recordings = new ProviderRecordings(recordingsDir);
+        replayTransport = new ReplayTransport(recordings,
+                new ReplayFaults(replayLatencyMs, replayLatencyJitterMs, replayRateLimitRatio));
+    }
+
+    private class Provider {
+        final String name;
+        final Duration readTimeout;
+        final long bulkheadWaitMillis;
+        final boolean followRedirects;
+        final String transport;
+        final Semaphore bulkhead;
+        final CircuitBreaker circuitBreaker;
+        final ProviderMetrics metrics;
+
+        Provider(String name) {
+            String prefix = "outbound.providers." + name + ".";
+            this.name = name;
+            readTimeout = Duration.ofMillis(environment.getProperty(prefix + "read-timeout-ms", Long.class,
+                    environment.getProperty("outbound.default-read-timeout-ms", Long.class, 10_000L)));
+            bulkheadWaitMillis = environment.getProperty(prefix + "bulkhead-wait-ms", Long.class, 2_000L);
+            followRedirects = environment.getProperty(prefix + "follow-redirects", Boolean.class, true);
+            transport = environment.getProperty(prefix + "transport", "http");
+            bulkhead = new Semaphore(environment.getProperty(prefix + "max-concurrency", Integer.class, 8), true);
+            circuitBreaker = new CircuitBreaker(
+                    environment.getProperty(prefix + "failure-threshold", Integer.class, 5),
+                    environment.getProperty(prefix + "open-ms", Long.class, 30_000L));
+            metrics = new ProviderMetrics(name);
+        }
+    }
+
+    /**
+     * Issues a GET to the provider. Throws ProviderUnavailableException without touching the
+     * network when the provider's circuit is open or its bulkhead stays full for bulkhead-wait-ms.
+     */
+    public HttpResponse<String> get(String provider, URI uri) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(provider, uri, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200 && RECORD.equals(provider(provider).transport)) {
+            recordings.write(provider, uri, response.body());
+        }
+        return response;
+    }
+
+    public <T> HttpResponse<T> send(String provider, URI uri, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        Provider settings = provider(provider);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(settings.readTimeout)
+                .GET()
+                .build();
+
+        if (!settings.bulkhead.tryAcquire(settings.bulkheadWaitMillis, TimeUnit.MILLISECONDS)) {
+            settings.metrics.rejected();
+            throw new ProviderUnavailableException(settings.name + " bulkhead is full");
+        }
+        CircuitBreaker.Permit permit = settings.circuitBreaker.tryAcquirePermission();
+        if (permit == null) {
+            settings.bulkhead.release();
+            settings.metrics.rejected();
+            throw new ProviderUnavailableException(settings.name + " circuit is open");
+        }
+
+        settings.metrics.started();
+        long start = System.nanoTime();
+        int status = -1;
+        try {
+            HttpResponse<T> response;
+            if (REPLAY.equals(settings.transport)) {
+                response = replayTransport.send(settings.name, request, bodyHandler);
+            } else {
+                HttpClient client = settings.followRedirects ? outboundHttpClient : noRedirectHttpClient;
+                response = client.send(request, bodyHandler);
+            }
+            status = response.statusCode();
+            return response;
+        } finally {
+            if (status == 429 || status >= 500 || status < 0) {
+                settings.circuitBreaker.onFailure(permit);
+            } else {
+                settings.circuitBreaker.onSuccess(permit);
+            }
+            settings.metrics.finished(System.nanoTime() - start, status);
+            settings.bulkhead.release();
+        }
+    }
+
+    public List<ProviderMetricsResponse> metrics() {
+        List<ProviderMetricsResponse> snapshots = new ArrayList<>();
+        for (Provider provider : providers.values()) {
+            ProviderMetricsResponse snapshot = provider.metrics.snapshot();
+            snapshot.setCircuitState(provider.circuitBreaker.getState().toString());
+            snapshots.add(snapshot);
+        }
+        return snapshots;
+    }
+
+    private Provider provider(String name) {
+        return providers.computeIfAbsent(name, Provider::new);
+    }
+}
@@ -0,0 +1,87 @@
+package com.travelplanner.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.travelplanner.entity.PlaceSearchCacheEntry;
+import com.travelplanner.repository.PlaceSearchCacheRepository;
+import com.travelplanner.util.Geohash;
+
+/**
+ * Persistent cache of OpenTripMap radius searches. Searches are snapped to the
+ * centre of a geohash cell so trips sharing a city reuse the same tile.
+ */
+@Service
+public class PlaceSearchCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaceSearchCacheService.class);
+
+    @Autowired
+    private PlaceSearchCacheRepository placeSearchCacheRepository;
+
+    @Value("${hotels.search-cache.geohash-precision:5}")
+    private int geohashPrecision;
+
+    @Value("${hotels.search-cache.ttl-hours:72}")
+    private long ttlHours;
+
+    @Value("${hotels.search-cache.max-entries:5000}")
+    private int maxEntries;
+
+    public String tileFor(double lat, double lon) {
+        return Geohash.encode(lat, lon, geohashPrecision);
+    }
+
+    public String cacheKey(String tile, int radius, String kinds) {
+        return tile + ":" + radius + ":" + kinds;
+    }
+
+    public Optional<String> get(String cacheKey) {
+        return placeSearchCacheRepository.findByCacheKey(cacheKey)
+                .filter(entry -> !entry.isExpired())
+                .map(PlaceSearchCacheEntry::getResponseJson);
+    }
+
+    /** Fallback when the provider is unavailable: any cached response, however old. */
+    public Optional<String> getIncludingExpired(String cacheKey) {
+        return placeSearchCacheRepository.findByCacheKey(cacheKey)
+                .map(PlaceSearchCacheEntry::getResponseJson);
+    }
+
+    public void put(String cacheKey, String tile, String responseJson) {
+        LocalDateTime now = LocalDateTime.now();
+        PlaceSearchCacheEntry entry = placeSearchCacheRepository.findByCacheKey(cacheKey)
+                .orElseGet(() -> new PlaceSearchCacheEntry(cacheKey, tile));
+        entry.setResponseJson(responseJson);
+        entry.setCreatedAt(now);
+        entry.setExpiresAt(now.plusHours(ttlHours));
+
+        try {
+            placeSearchCacheRepository.save(entry);
+        } catch (DataIntegrityViolationException e) {
+            // Another request cached the same tile first; its entry is just as good.
+            logger.debug("Place search cache entry {} already written", cacheKey);
+            return;
+        }
+
+        evictOverflow();
+    }
+
+    private void evictOverflow() {
+        long overflow = placeSearchCacheRepository.count() - maxEntries;
+        if (overflow <= 0) return;
+
+        List<PlaceSearchCacheEntry> oldest = placeSearchCacheRepository.findAllByOrderByCreatedAtAsc(
+                PageRequest.of(0, (int) Math.min(overflow, 500)));
+        placeSearchCacheRepository.deleteAll(oldest);
+    }
+}
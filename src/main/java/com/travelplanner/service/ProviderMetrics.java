@@ -0,0 +1,56 @@
+package com.travelplanner.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.travelplanner.dto.ProviderMetricsResponse;
+
+/**
+ * Lock-free latency and error counters for one upstream provider.
+ */
+public class ProviderMetrics {
+
+    private final String provider;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    public ProviderMetrics(String provider) {
+        this.provider = provider;
+    }
+
+    void started() {
+        inFlight.incrementAndGet();
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    void finished(long elapsedNanos, int statusCode) {
+        inFlight.decrementAndGet();
+        requests.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        if (statusCode == 429) rateLimited.increment();
+        if (statusCode >= 500 || statusCode < 0) errors.increment();
+    }
+
+    public ProviderMetricsResponse snapshot() {
+        ProviderMetricsResponse response = new ProviderMetricsResponse();
+        long count = requests.sum();
+        response.setProvider(provider);
+        response.setRequests(count);
+        response.setErrors(errors.sum());
+        response.setRateLimited(rateLimited.sum());
+        response.setRejected(rejected.sum());
+        response.setInFlight(inFlight.get());
+        response.setAverageLatencyMs(count == 0 ? 0 : totalNanos.sum() / count / 1_000_000.0);
+        response.setMaxLatencyMs(maxNanos.get() / 1_000_000.0);
+        return response;
+    }
+}
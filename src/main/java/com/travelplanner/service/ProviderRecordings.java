@@ -0,0 +1,80 @@
+package com.travelplanner.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Directory of captured provider responses, laid out as {provider}/{sha1(request)}.json.
+ * OutboundHttpClient writes to it for providers with transport=record and reads from it
+ * for transport=replay. Requests are keyed by host, path and query with credentials
+ * removed, so recordings do not contain API keys and survive key rotation.
+ */
+final class ProviderRecordings {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProviderRecordings.class);
+
+    private static final Set<String> CREDENTIAL_PARAMS = Set.of("apikey", "api_key", "client_id");
+
+    private final Path dir;
+
+    ProviderRecordings(String dir) {
+        this.dir = dir == null || dir.isBlank() ? null : Paths.get(dir);
+    }
+
+    static String requestKey(URI uri) {
+        StringBuilder key = new StringBuilder(uri.getHost()).append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            List<String> kept = new ArrayList<>();
+            for (String param : uri.getRawQuery().split("&")) {
+                String name = param.split("=", 2)[0];
+                if (!CREDENTIAL_PARAMS.contains(name)) kept.add(param);
+            }
+            if (!kept.isEmpty()) key.append('?').append(String.join("&", kept));
+        }
+        return key.toString();
+    }
+
+    /** Recorded body for the request, or null when nothing was captured. */
+    String read(String provider, URI uri) throws IOException {
+        if (dir == null) return null;
+        Path file = file(provider, uri);
+        return Files.exists(file) ? Files.readString(file, StandardCharsets.UTF_8) : null;
+    }
+
+    void write(String provider, URI uri, String body) {
+        if (dir == null || body == null) return;
+        try {
+            Path file = file(provider, uri);
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), "rec", ".tmp");
+            Files.writeString(tmp, body, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not record {} response for {}: {}", provider, requestKey(uri), e.getMessage());
+        }
+    }
+
+    private Path file(String provider, URI uri) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest(requestKey(uri).getBytes(StandardCharsets.UTF_8));
+            return dir.resolve(provider).resolve(HexFormat.of().formatHex(digest) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.travelplanner.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency and rate-limit faults injected by the replay transport so offline
+ * benchmarks see provider-like behaviour.
+ */
+final class ReplayFaults {
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double rateLimitRatio;
+
+    ReplayFaults(long latencyMs, long jitterMs, double rateLimitRatio) {
+        this.latencyMs = Math.max(0, latencyMs);
+        this.jitterMs = Math.max(0, jitterMs);
+        this.rateLimitRatio = rateLimitRatio;
+    }
+
+    /** Sleeps for the injected latency; returns true when this call should be treated as a 429. */
+    boolean apply() throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0);
+        if (delay > 0) Thread.sleep(delay);
+        return rateLimitRatio > 0 && random.nextDouble() < rateLimitRatio;
+    }
+}
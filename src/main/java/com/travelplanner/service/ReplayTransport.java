@@ -0,0 +1,102 @@
+package com.travelplanner.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Answers provider requests from {@link ProviderRecordings} instead of the network:
+ * 200 with the captured body, 404 when nothing was captured, or an injected 429.
+ * It sits underneath OutboundHttpClient, so replayed calls still go through the
+ * callers' rate limiters and the provider's bulkhead, circuit breaker and metrics.
+ */
+final class ReplayTransport {
+
+    private final ProviderRecordings recordings;
+    private final ReplayFaults faults;
+
+    ReplayTransport(ProviderRecordings recordings, ReplayFaults faults) {
+        this.recordings = recordings;
+        this.faults = faults;
+    }
+
+    <T> HttpResponse<T> send(String provider, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        int status;
+        byte[] body;
+        if (faults.apply()) {
+            status = 429;
+            body = new byte[0];
+        } else {
+            String recorded = recordings.read(provider, request.uri());
+            status = recorded != null ? 200 : 404;
+            body = recorded != null ? recorded.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        }
+
+        HttpHeaders headers = HttpHeaders.of(Map.of(
+                "Content-Type", List.of("application/json"),
+                "Content-Length", List.of(String.valueOf(body.length))), (name, value) -> true);
+        HttpResponse.BodySubscriber<T> subscriber = bodyHandler.apply(new HttpResponse.ResponseInfo() {
+            @Override public int statusCode() { return status; }
+            @Override public HttpHeaders headers() { return headers; }
+            @Override public HttpClient.Version version() { return HttpClient.Version.HTTP_1_1; }
+        });
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                if (done) return;
+                done = true;
+                if (body.length > 0) subscriber.onNext(List.of(ByteBuffer.wrap(body)));
+                subscriber.onComplete();
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+
+        try {
+            return new Replayed<>(request, status, headers, subscriber.getBody().toCompletableFuture().get());
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    private static final class Replayed<T> implements HttpResponse<T> {
+        private final HttpRequest request;
+        private final int status;
+        private final HttpHeaders headers;
+        private final T body;
+
+        Replayed(HttpRequest request, int status, HttpHeaders headers, T body) {
+            this.request = request;
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override public int statusCode() { return status; }
+        @Override public HttpRequest request() { return request; }
+        @Override public Optional<HttpResponse<T>> previousResponse() { return Optional.empty(); }
+        @Override public HttpHeaders headers() { return headers; }
+        @Override public T body() { return body; }
+        @Override public Optional<SSLSession> sslSession() { return Optional.empty(); }
+        @Override public URI uri() { return request.uri(); }
+        @Override public HttpClient.Version version() { return HttpClient.Version.HTTP_1_1; }
+    }
+}
@@ -0,0 +1,197 @@
+package com.travelplanner.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.json.JSONArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.travelplanner.dto.HotelResponse;
+import com.travelplanner.entity.Destination;
+import com.travelplanner.entity.TripDestination;
+import com.travelplanner.entity.TripHotelRecommendation;
+import com.travelplanner.event.DestinationChangedEvent;
+import com.travelplanner.event.TripDestinationsChangedEvent;
+import com.travelplanner.repository.TripDestinationRepository;
+import com.travelplanner.repository.TripHotelRecommendationRepository;
+import com.travelplanner.repository.TripRepository;
+
+/**
+ * Keeps a ranked recommendation list per trip in trip_hotel_recommendations.
+ * Trip and destination changes drop the stored list and schedule a background
+ * recompute, so the recommendations GET is a single primary-key read, served
+ * while the list is younger than its TTL. A list is stored only if the trip's
+ * destinations did not change while it was computed; degraded results (provider
+ * fallback, timeouts) are never stored.
+ */
+@Service
+public class TripRecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TripRecommendationService.class);
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private TripDestinationRepository tripDestinationRepository;
+
+    @Autowired
+    private TripHotelRecommendationRepository recommendationRepository;
+
+    @Autowired
+    @Qualifier("hotelPrecomputeExecutor")
+    private ExecutorService hotelPrecomputeExecutor;
+
+    @Value("${hotels.precompute.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    // An empty list may just mean the provider had nothing yet, so it is retried sooner
+    @Value("${hotels.precompute.empty-ttl-minutes:30}")
+    private long emptyTtlMinutes;
+
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    public List<HotelResponse> getRecommendations(Long tripId) {
+        Optional<TripHotelRecommendation> stored = recommendationRepository.findById(tripId);
+        if (stored.isPresent() && isFresh(stored.get())) {
+            return parse(stored.get().getHotelsJson());
+        }
+
+        // Missing, expired or computed for other destinations: answer live and keep that answer
+        return computeAndStore(tripId);
+    }
+
+    @EventListener
+    public void onDestinationsChanged(TripDestinationsChangedEvent event) {
+        Long tripId = event.getTripId();
+        // Stop serving the old ranking right away; GETs answer live until the recompute lands
+        recommendationRepository.deleteById(tripId);
+        schedule(tripId);
+    }
+
+    /** Moving or deleting a destination changes the ranking of every trip that visits it. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDestinationChanged(DestinationChangedEvent event) {
+        Long destinationId = event.getDestinationId();
+        Set<Long> tripIds = new HashSet<>(tripDestinationRepository.findTripIdsByDestinationId(destinationId));
+        // A deleted destination's trip_destinations rows are already gone, but the stored lists still name it
+        tripIds.addAll(recommendationRepository.findTripIdsByDestinationIdsLike("%," + destinationId + ",%"));
+        for (Long tripId : tripIds) {
+            recommendationRepository.deleteById(tripId);
+            schedule(tripId);
+        }
+    }
+
+    private void schedule(Long tripId) {
+        if (!scheduled.add(tripId)) return;
+        try {
+            hotelPrecomputeExecutor.execute(() -> {
+                scheduled.remove(tripId);
+                recompute(tripId);
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.remove(tripId);
+            logger.warn("Recommendation precompute queue full; trip {} will be computed on demand", tripId);
+        }
+    }
+
+    private void recompute(Long tripId) {
+        try {
+            if (!tripRepository.existsById(tripId)) {
+                recommendationRepository.deleteById(tripId);
+                return;
+            }
+            computeAndStore(tripId);
+        } catch (Exception e) {
+            logger.warn("Precomputing recommendations for trip {} failed: {}", tripId, e.getMessage());
+        }
+    }
+
+    private List<HotelResponse> computeAndStore(Long tripId) {
+        List<TripDestination> destinations = tripDestinationRepository.findByTripIdWithDestination(tripId);
+        String hash = destinationHash(destinations);
+        String[] degraded = new String[1];
+        List<HotelResponse> hotels = hotelService.getRecommendationsByTrip(tripId, new HotelProgressListener() {
+            @Override
+            public void onDegraded(String reason) {
+                degraded[0] = reason;
+            }
+        });
+
+        if (degraded[0] != null) {
+            logger.info("Not storing recommendations for trip {}: {}", tripId, degraded[0]);
+            return hotels;
+        }
+        // The destination set changed while we were computing; the follow-up recompute will store it
+        String currentHash = destinationHash(tripDestinationRepository.findByTripIdWithDestination(tripId));
+        if (!hash.equals(currentHash)) return hotels;
+
+        JSONArray json = new JSONArray();
+        for (HotelResponse hotel : hotels) json.put(hotel.toJson());
+
+        TripHotelRecommendation recommendation = new TripHotelRecommendation(tripId);
+        recommendation.setDestinationHash(hash);
+        recommendation.setDestinationIds(destinationIds(destinations));
+        recommendation.setHotelsJson(json.toString());
+        recommendation.setComputedAt(LocalDateTime.now());
+        recommendationRepository.save(recommendation);
+        return hotels;
+    }
+
+    private boolean isFresh(TripHotelRecommendation stored) {
+        long ttl = "[]".equals(stored.getHotelsJson()) ? emptyTtlMinutes : ttlMinutes;
+        return stored.getComputedAt().isAfter(LocalDateTime.now().minusMinutes(ttl));
+    }
+
+    private static String destinationIds(List<TripDestination> destinations) {
+        StringBuilder ids = new StringBuilder(",");
+        for (TripDestination td : destinations) ids.append(td.getDestination().getId()).append(',');
+        return ids.toString();
+    }
+
+    // Covers the destination set and each destination's coordinates, the inputs to the ranking
+    private static String destinationHash(List<TripDestination> destinations) {
+        StringBuilder key = new StringBuilder(HotelService.flightKey(destinations));
+        destinations.stream()
+                .map(TripDestination::getDestination)
+                .sorted(Comparator.comparing(Destination::getId))
+                .forEach(d -> key.append('|').append(d.getId())
+                        .append('@').append(d.getLatitude()).append(',').append(d.getLongitude()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<HotelResponse> parse(String hotelsJson) {
+        JSONArray json = new JSONArray(hotelsJson);
+        List<HotelResponse> hotels = new ArrayList<>(json.length());
+        for (int i = 0; i < json.length(); i++) hotels.add(HotelResponse.fromJson(json.getJSONObject(i)));
+        return hotels;
+    }
+}
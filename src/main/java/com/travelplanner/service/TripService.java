@@ -6,9 +6,11 @@ import com.travelplanner.dto.TripHotelResponse;
 import com.travelplanner.dto.TripRequest;
 import com.travelplanner.dto.TripResponse;
 import com.travelplanner.entity.*;
+import com.travelplanner.event.TripDestinationsChangedEvent;
 import com.travelplanner.repository.*;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,6 +24,8 @@ public class TripService {
     @Autowired private DestinationRepository destinationRepository;
     @Autowired private TripDestinationRepository tripDestinationRepository;
     @Autowired private TripHotelRepository tripHotelRepository;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private DestinationService destinationService;
 
     // ---------------- BASIC TRIP LOGIC ---------------- //
 
@@ -72,6 +76,7 @@ public class TripService {
     public void deleteTrip(Long id) {
         if (!tripRepository.existsById(id)) throw new RuntimeException("Trip not found");
         tripRepository.deleteById(id);
+        eventPublisher.publishEvent(new TripDestinationsChangedEvent(id));
     }
 
     // ---------------- DESTINATION LOGIC ---------------- //
@@ -90,28 +95,30 @@ public class TripService {
         td.setTrip(trip);
         td.setDestination(destination);
         tripDestinationRepository.save(td);
+        eventPublisher.publishEvent(new TripDestinationsChangedEvent(tripId));
+    }
+
+    public void removeDestinationFromTrip(Long tripId, Long destinationId) {
+        Trip trip = tripRepository.findById(tripId)
+                .orElseThrow(() -> new RuntimeException("Trip not found"));
+
+        TripDestination td = trip.getTripDestinations().stream()
+                .filter(t -> t.getDestination().getId().equals(destinationId))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Destination is not part of this trip"));
+
+        trip.getTripDestinations().remove(td);
+        tripDestinationRepository.delete(td);
+        eventPublisher.publishEvent(new TripDestinationsChangedEvent(tripId));
     }
 
     public List<DestinationResponse> getDestinationsForTrip(Long tripId) {
         Trip trip = tripRepository.findById(tripId)
                 .orElseThrow(() -> new RuntimeException("Trip not found"));
 
-        return trip.getTripDestinations().stream().map(td -> {
-            Destination d = td.getDestination();
-            DestinationResponse dr = new DestinationResponse();
-            dr.setId(d.getId());
-            dr.setName(d.getName());
-            dr.setCity(d.getCity());
-            dr.setCountry(d.getCountry());
-            dr.setDescription(d.getDescription());
-            dr.setCategory(d.getCategory());
-
-            dr.setLatitude(d.getLatitude());
-            dr.setLongitude(d.getLongitude());
-            dr.setImageUrl(d.getImageUrl());
-            dr.setAverageRating(d.getAverageRating());
-            return dr;
-        }).collect(Collectors.toList());
+        return trip.getTripDestinations().stream()
+                .map(td -> destinationService.getCachedResponse(td.getDestination()))
+                .collect(Collectors.toList());
     }
 
     // ---------------- ✅ HOTEL LOGIC ---------------- //
@@ -162,22 +169,7 @@ public class TripService {
 
         // Destinations
         List<DestinationResponse> destinationResponses = trip.getTripDestinations().stream()
-                .map(td -> {
-                    Destination d = td.getDestination();
-                    DestinationResponse dr = new DestinationResponse();
-                    dr.setId(d.getId());
-                    dr.setName(d.getName());
-                    dr.setCity(d.getCity());
-                    dr.setCountry(d.getCountry());
-                    dr.setDescription(d.getDescription());
-                   dr.setCategory(d.getCategory());
-
-                    dr.setLatitude(d.getLatitude());
-                    dr.setLongitude(d.getLongitude());
-                    dr.setImageUrl(d.getImageUrl());
-                    dr.setAverageRating(d.getAverageRating());
-                    return dr;
-                })
+                .map(td -> destinationService.getCachedResponse(td.getDestination()))
                 .collect(Collectors.toList());
 
         response.setDestinations(destinationResponses);
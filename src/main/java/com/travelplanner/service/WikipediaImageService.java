@@ -1,35 +1,115 @@
 package com.travelplanner.service;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.json.JSONObject;
+
+import com.travelplanner.entity.WikipediaThumbnailCacheEntry;
+import com.travelplanner.repository.WikipediaThumbnailCacheRepository;
+import com.travelplanner.util.TokenBucketRateLimiter;
 
 @Service
 public class WikipediaImageService {
 
-    private final RestTemplate restTemplate;
+    private static final Logger logger = LoggerFactory.getLogger(WikipediaImageService.class);
+
+    private final OutboundHttpClient outboundHttpClient;
+    private final WikipediaThumbnailCacheRepository thumbnailCacheRepository;
 
     @Autowired
-    public WikipediaImageService(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    @Qualifier("wikipediaRateLimiter")
+    private TokenBucketRateLimiter wikipediaRateLimiter;
+
+    @Value("${wikipedia.thumbnail-cache.ttl-days:30}")
+    private long ttlDays;
+
+    @Value("${wikipedia.thumbnail-cache.negative-ttl-hours:24}")
+    private long negativeTtlHours;
+
+    @Autowired
+    public WikipediaImageService(OutboundHttpClient outboundHttpClient,
+                                 WikipediaThumbnailCacheRepository thumbnailCacheRepository) {
+        this.outboundHttpClient = outboundHttpClient;
+        this.thumbnailCacheRepository = thumbnailCacheRepository;
     }
 
     public String getImageUrl(String title) {
         try {
-            String url = "https://en.wikipedia.org/api/rest_v1/page/summary/" + title.replace(" ", "_");
-            String json = restTemplate.getForObject(url, String.class);
-
-            if (json != null) {
-                JSONObject obj = new JSONObject(json);
-                if (obj.has("thumbnail")) {
-                    return obj.getJSONObject("thumbnail").getString("source");
-                }
-            }
+            return findThumbnail(title).orElse(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
-            System.err.println("Failed to fetch Wikipedia image for: " + title);
+            logger.warn("Failed to fetch Wikipedia image for: {}", title, e);
         }
 
         return null;
     }
+
+    /**
+     * Thumbnail URL for the article, or empty when the article or its thumbnail does not
+     * exist. Answers from the persistent cache when possible; throws when Wikipedia could
+     * not be asked, so callers can retry (failures are never cached).
+     */
+    public Optional<String> findThumbnail(String title) throws IOException, InterruptedException {
+        String titleKey = normalize(title);
+        Optional<WikipediaThumbnailCacheEntry> cached = thumbnailCacheRepository.findByTitleKey(titleKey)
+                .filter(entry -> !entry.isExpired());
+        if (cached.isPresent()) return Optional.ofNullable(cached.get().getThumbnailUrl());
+
+        Optional<String> thumbnail = fetchThumbnail(title);
+        remember(titleKey, thumbnail.orElse(null));
+        return thumbnail;
+    }
+
+    private Optional<String> fetchThumbnail(String title) throws IOException, InterruptedException {
+        String url = "https://en.wikipedia.org/api/rest_v1/page/summary/" +
+                URLEncoder.encode(title.replace(" ", "_"), StandardCharsets.UTF_8);
+        wikipediaRateLimiter.acquire();
+        HttpResponse<String> response = outboundHttpClient.get(OutboundHttpClient.WIKIPEDIA, URI.create(url));
+
+        if (response.statusCode() == 404) return Optional.empty();
+        if (response.statusCode() != 200) {
+            throw new IOException("Wikipedia summary returned status " + response.statusCode());
+        }
+
+        JSONObject obj = new JSONObject(response.body());
+        if (obj.has("thumbnail")) {
+            return Optional.of(obj.getJSONObject("thumbnail").getString("source"));
+        }
+        return Optional.empty();
+    }
+
+    private void remember(String titleKey, String thumbnailUrl) {
+        LocalDateTime now = LocalDateTime.now();
+        WikipediaThumbnailCacheEntry entry = thumbnailCacheRepository.findByTitleKey(titleKey)
+                .orElseGet(() -> new WikipediaThumbnailCacheEntry(titleKey));
+        entry.setThumbnailUrl(thumbnailUrl);
+        entry.setFetchedAt(now);
+        entry.setExpiresAt(thumbnailUrl != null ? now.plusDays(ttlDays) : now.plusHours(negativeTtlHours));
+
+        try {
+            thumbnailCacheRepository.save(entry);
+        } catch (DataIntegrityViolationException e) {
+            // Another lookup cached the same title first; its entry is just as good.
+            logger.debug("Wikipedia thumbnail cache entry {} already written", titleKey);
+        }
+    }
+
+    private static String normalize(String title) {
+        return title.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,17 @@
+package com.travelplanner.service.provider;
+
+import com.travelplanner.dto.HotelDetail;
+
+/**
+ * Source of hotel candidates and details. Selected with hotels.provider
+ * ("opentripmap" by default). Recorded responses are replayed underneath it with
+ * outbound.providers.opentripmap.transport=replay.
+ */
+public interface HotelProvider {
+
+    /** JSON array of places around the point, in OpenTripMap radius-search format (each with an "xid"). */
+    String searchPlaces(double lat, double lon, int radiusMeters, String kinds, int limit) throws Exception;
+
+    /** Detail for one place, or null when the provider has none. */
+    HotelDetail fetchDetail(String xid) throws Exception;
+}
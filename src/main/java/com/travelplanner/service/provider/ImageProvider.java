@@ -0,0 +1,15 @@
+package com.travelplanner.service.provider;
+
+/**
+ * Source of hotel images. Selected with hotels.image-provider
+ * ("unsplash" by default). Recorded responses are replayed underneath it with
+ * outbound.providers.unsplash.transport=replay.
+ */
+public interface ImageProvider {
+
+    /**
+     * Image URL for the query, HotelImageService.PLACEHOLDER_IMAGE when nothing matches,
+     * or null when the provider is rate limiting and the query should be retried later.
+     */
+    String searchImage(String query) throws Exception;
+}
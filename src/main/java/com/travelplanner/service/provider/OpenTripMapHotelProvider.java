@@ -0,0 +1,58 @@
+package com.travelplanner.service.provider;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.travelplanner.dto.HotelDetail;
+import com.travelplanner.service.OutboundHttpClient;
+import com.travelplanner.util.TokenBucketRateLimiter;
+
+@Component
+@ConditionalOnProperty(name = "hotels.provider", havingValue = "opentripmap", matchIfMissing = true)
+public class OpenTripMapHotelProvider implements HotelProvider {
+
+    private static final String BASE_URL = "https://api.opentripmap.com/0.1/en/places";
+
+    @Autowired
+    private OutboundHttpClient outboundHttpClient;
+
+    @Autowired
+    @Qualifier("openTripMapRateLimiter")
+    private TokenBucketRateLimiter openTripMapRateLimiter;
+
+    @Value("${opentripmap.api-key:5ae2e3f221c38a28845f05b6479e5b543bc57757bbe58690c3e64236}")
+    private String apiKey;
+
+    @Override
+    public String searchPlaces(double lat, double lon, int radiusMeters, String kinds, int limit) throws Exception {
+        String url = String.format(Locale.ROOT,
+                "%s/radius?radius=%d&lon=%f&lat=%f&kinds=%s&format=json&limit=%d&apikey=%s",
+                BASE_URL, radiusMeters, lon, lat, kinds, limit, apiKey);
+
+        openTripMapRateLimiter.acquire();
+        HttpResponse<String> res = outboundHttpClient.get(OutboundHttpClient.OPENTRIPMAP, URI.create(url));
+        if (res.statusCode() != 200) {
+            throw new RuntimeException("OpenTripMap radius search failed with status " + res.statusCode());
+        }
+
+        return res.body();
+    }
+
+    @Override
+    public HotelDetail fetchDetail(String xid) throws Exception {
+        openTripMapRateLimiter.acquire();
+        HttpResponse<String> res = outboundHttpClient.get(OutboundHttpClient.OPENTRIPMAP,
+                URI.create(BASE_URL + "/xid/" + xid + "?apikey=" + apiKey));
+
+        if (res.statusCode() != 200) return null;
+        return HotelDetail.fromOpenTripMap(xid, new JSONObject(res.body()));
+    }
+}
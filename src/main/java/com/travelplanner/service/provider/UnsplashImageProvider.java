@@ -0,0 +1,58 @@
+package com.travelplanner.service.provider;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.travelplanner.service.HotelImageService;
+import com.travelplanner.service.OutboundHttpClient;
+import com.travelplanner.util.TokenBucketRateLimiter;
+
+@Component
+@ConditionalOnProperty(name = "hotels.image-provider", havingValue = "unsplash", matchIfMissing = true)
+public class UnsplashImageProvider implements ImageProvider {
+
+    @Autowired
+    private OutboundHttpClient outboundHttpClient;
+
+    @Autowired
+    @Qualifier("unsplashRateLimiter")
+    private TokenBucketRateLimiter unsplashRateLimiter;
+
+    @Value("${unsplash.access-key:TnRwUjj4rJiXqRFekOHnoFhRkYd-M70z1ZZl4K7IpzM}")
+    private String accessKey;
+
+    @Override
+    public String searchImage(String query) throws Exception {
+        String url = "https://api.unsplash.com/search/photos?query=" +
+                URLEncoder.encode(query, StandardCharsets.UTF_8) +
+                "&client_id=" + accessKey + "&per_page=1";
+
+        unsplashRateLimiter.acquire();
+        HttpResponse<String> res = outboundHttpClient.get(OutboundHttpClient.UNSPLASH, URI.create(url));
+
+        if (res.statusCode() == 429) return null;
+        if (res.statusCode() != 200) return HotelImageService.PLACEHOLDER_IMAGE;
+
+        return firstSmallUrl(res.body());
+    }
+
+    static String firstSmallUrl(String body) {
+        JSONArray results = new JSONObject(body).getJSONArray("results");
+        if (results.length() > 0) {
+            return results.getJSONObject(0)
+                    .getJSONObject("urls")
+                    .getString("small");
+        }
+        return HotelImageService.PLACEHOLDER_IMAGE;
+    }
+}
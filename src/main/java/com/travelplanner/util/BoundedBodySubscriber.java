@@ -0,0 +1,93 @@
+package com.travelplanner.util;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Passes a response body through to another subscriber until it exceeds a byte
+ * limit, then cancels the transfer and completes with null instead of the
+ * downstream result. A body whose declared Content-Length is already over the
+ * limit is cancelled before any bytes arrive. Completing normally (rather than
+ * failing) keeps an oversized but healthy upstream from counting against its
+ * circuit breaker.
+ */
+public final class BoundedBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+
+    private final HttpResponse.BodySubscriber<T> downstream;
+    private final long maxBytes;
+    private final boolean declaredTooLarge;
+    private final CompletableFuture<T> body = new CompletableFuture<>();
+
+    private Flow.Subscription subscription;
+    private long received;
+    private boolean exceeded;
+
+    BoundedBodySubscriber(HttpResponse.BodySubscriber<T> downstream, long maxBytes, boolean declaredTooLarge) {
+        this.downstream = downstream;
+        this.maxBytes = maxBytes;
+        this.declaredTooLarge = declaredTooLarge;
+        downstream.getBody().whenComplete((value, error) -> {
+            if (error != null) {
+                body.completeExceptionally(error);
+            } else {
+                body.complete(value);
+            }
+        });
+    }
+
+    /** Wraps {@code handler} so bodies over {@code maxBytes} resolve to null. */
+    public static <T> HttpResponse.BodyHandler<T> handler(HttpResponse.BodyHandler<T> handler, long maxBytes) {
+        return info -> {
+            long declared = info.headers().firstValueAsLong("Content-Length").orElse(-1L);
+            return new BoundedBodySubscriber<>(handler.apply(info), maxBytes, declared > maxBytes);
+        };
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (declaredTooLarge) {
+            exceeded = true;
+            subscription.cancel();
+            body.complete(null);
+            return;
+        }
+        downstream.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        if (exceeded) return;
+        for (ByteBuffer item : items) received += item.remaining();
+        if (received > maxBytes) {
+            exceeded = true;
+            subscription.cancel();
+            // Completed first: the downstream error below must not become the result
+            body.complete(null);
+            // Lets the downstream release what it holds (e.g. close a partially written file)
+            downstream.onError(new IOException("Response body exceeds " + maxBytes + " bytes"));
+            return;
+        }
+        downstream.onNext(items);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!exceeded) downstream.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (!exceeded) downstream.onComplete();
+    }
+
+    @Override
+    public CompletionStage<T> getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,83 @@
+package com.travelplanner.util;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failures in a
+ * row the circuit opens and calls fail fast; once {@code openMillis} has passed a
+ * single probe is let through (half-open) and its outcome closes or re-opens it.
+ * Each permit remembers which open period it was issued in, so results of calls
+ * admitted before the circuit last opened are ignored and only the probe decides
+ * the half-open transition.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** Permission to make one call; report its outcome with onSuccess or onFailure. */
+    public static final class Permit {
+        private final long epoch;
+        private final boolean probe;
+
+        private Permit(long epoch, boolean probe) {
+            this.epoch = epoch;
+            this.probe = probe;
+        }
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+    private boolean probeInFlight;
+    // Incremented every time the circuit opens
+    private long epoch;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+    }
+
+    /** Returns a permit if the call may proceed, or null if it must fail fast. */
+    public synchronized Permit tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return new Permit(epoch, false);
+            case OPEN:
+                if (System.currentTimeMillis() - openedAtMillis < openMillis) return null;
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return new Permit(epoch, true);
+            default:
+                if (probeInFlight) return null;
+                probeInFlight = true;
+                return new Permit(epoch, true);
+        }
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.epoch != epoch) return; // admitted before the circuit last opened
+        if (permit.probe) {
+            state = State.CLOSED;
+            probeInFlight = false;
+        }
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.epoch != epoch) return; // admitted before the circuit last opened
+        if (permit.probe || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtMillis = System.currentTimeMillis();
+            consecutiveFailures = 0;
+            probeInFlight = false;
+            epoch++;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,143 @@
+package com.travelplanner.util;
+
+import java.util.Arrays;
+
+/**
+ * Haversine distances from a growing set of points (rows) to a fixed set of
+ * destinations (columns), stored row-major in a primitive array. Destination
+ * radians and cosines are computed once, so adding a row costs one cosine plus
+ * the per-destination terms, and ranking by mean distance allocates nothing but
+ * the returned index array.
+ */
+public final class DistanceMatrix {
+
+    private final int columns;
+    private final double[] destLatRad;
+    private final double[] destLonRad;
+    private final double[] destCosLat;
+
+    private double[] distances;
+    private double[] averages;
+    private int rows;
+
+    public DistanceMatrix(double[] destinationLats, double[] destinationLons, int expectedRows) {
+        if (destinationLats.length != destinationLons.length || destinationLats.length == 0) {
+            throw new IllegalArgumentException("Destination coordinates must be non-empty and the same length");
+        }
+        columns = destinationLats.length;
+        destLatRad = new double[columns];
+        destLonRad = new double[columns];
+        destCosLat = new double[columns];
+        for (int c = 0; c < columns; c++) {
+            destLatRad[c] = Math.toRadians(destinationLats[c]);
+            destLonRad[c] = Math.toRadians(destinationLons[c]);
+            destCosLat[c] = Math.cos(destLatRad[c]);
+        }
+
+        int capacity = Math.max(expectedRows, 1);
+        distances = new double[capacity * columns];
+        averages = new double[capacity];
+    }
+
+    /** Adds a point and returns its row index. */
+    public int addRow(double lat, double lon) {
+        if (rows == averages.length) grow();
+
+        double latRad = Math.toRadians(lat);
+        double lonRad = Math.toRadians(lon);
+        double cosLat = Math.cos(latRad);
+        int offset = rows * columns;
+        double total = 0;
+        for (int c = 0; c < columns; c++) {
+            double sinDLat = Math.sin((destLatRad[c] - latRad) / 2);
+            double sinDLon = Math.sin((destLonRad[c] - lonRad) / 2);
+            double a = sinDLat * sinDLat + cosLat * destCosLat[c] * sinDLon * sinDLon;
+            double d = GeoUtils.EARTH_RADIUS_KM * (2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)));
+            distances[offset + c] = d;
+            total += d;
+        }
+        averages[rows] = total / columns;
+        return rows++;
+    }
+
+    public int rows() { return rows; }
+
+    public int columns() { return columns; }
+
+    public double distance(int row, int column) {
+        return distances[row * columns + column];
+    }
+
+    public double average(int row) {
+        return averages[row];
+    }
+
+    /**
+     * Row indices of the {@code k} points with the smallest mean distance, nearest
+     * first. Ties keep insertion order. Uses a bounded max-heap, so selection is
+     * O(n log k) rather than a full sort.
+     */
+    public int[] topK(int k) {
+        int size = Math.min(k, rows);
+        if (size <= 0) return new int[0];
+
+        // heap[0] is the worst row currently kept
+        int[] heap = new int[size];
+        int filled = 0;
+        for (int row = 0; row < rows; row++) {
+            if (filled < size) {
+                heap[filled] = row;
+                siftUp(heap, filled++);
+            } else if (worse(heap[0], row)) {
+                heap[0] = row;
+                siftDown(heap, 0, size);
+            }
+        }
+
+        // Heap-sort in place: repeatedly move the worst row to the end
+        for (int end = size - 1; end > 0; end--) {
+            int worst = heap[0];
+            heap[0] = heap[end];
+            heap[end] = worst;
+            siftDown(heap, 0, end);
+        }
+        return heap;
+    }
+
+    private boolean worse(int a, int b) {
+        return averages[a] > averages[b] || (averages[a] == averages[b] && a > b);
+    }
+
+    private void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(heap[i], heap[parent])) return;
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int i, int size) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) return;
+            int right = left + 1;
+            int child = right < size && worse(heap[right], heap[left]) ? right : left;
+            if (!worse(heap[child], heap[i])) return;
+            swap(heap, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    private void grow() {
+        int capacity = averages.length * 2;
+        averages = Arrays.copyOf(averages, capacity);
+        distances = Arrays.copyOf(distances, capacity * columns);
+    }
+}
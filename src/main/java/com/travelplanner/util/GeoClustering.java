@@ -0,0 +1,51 @@
+package com.travelplanner.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class GeoClustering {
+
+    private GeoClustering() {}
+
+    /**
+     * Groups points by single linkage: two points share a cluster when a chain of
+     * points each within {@code thresholdKm} of the next connects them. Returns
+     * point indices per cluster, clusters ordered by their first point.
+     */
+    public static List<int[]> clusterByDistance(double[] lats, double[] lons, double thresholdKm) {
+        int n = lats.length;
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) parent[i] = i;
+
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (GeoUtils.distanceKm(lats[i], lons[i], lats[j], lons[j]) <= thresholdKm) {
+                    int rootI = find(parent, i);
+                    int rootJ = find(parent, j);
+                    if (rootI != rootJ) parent[Math.max(rootI, rootJ)] = Math.min(rootI, rootJ);
+                }
+            }
+        }
+
+        Map<Integer, List<Integer>> byRoot = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            byRoot.computeIfAbsent(find(parent, i), root -> new ArrayList<>()).add(i);
+        }
+
+        List<int[]> clusters = new ArrayList<>(byRoot.size());
+        for (List<Integer> members : byRoot.values()) {
+            clusters.add(members.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return clusters;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
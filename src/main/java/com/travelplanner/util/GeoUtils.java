@@ -0,0 +1,29 @@
+package com.travelplanner.util;
+
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371;
+
+    private GeoUtils() {}
+
+    /** Great-circle (haversine) distance in kilometres. */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_KM * (2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)));
+    }
+
+    /** Returns {minLat, maxLat, minLon, maxLon} of a box enclosing the given radius. */
+    public static double[] boundingBox(double lat, double lon, double radiusKm) {
+        double dLat = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        double dLon = Math.min(180, dLat / cosLat);
+        return new double[] {
+                Math.max(-90, lat - dLat), Math.min(90, lat + dLat),
+                Math.max(-180, lon - dLon), Math.min(180, lon + dLon)
+        };
+    }
+}
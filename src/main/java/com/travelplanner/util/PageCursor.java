@@ -0,0 +1,64 @@
+package com.travelplanner.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a listing ordered by score (highest first), rating (highest
+ * first), then id (lowest first): the sort key of the last row already returned.
+ * Clients receive it as an opaque URL-safe token. Score is the search relevance,
+ * or 0 for listings without a search term.
+ */
+public final class PageCursor {
+
+    private static final String VERSION = "v1";
+
+    // Sorts before every real row: ratings are DECIMAL(3,2), so 10 is above any of them
+    private static final PageCursor FIRST = new PageCursor(Integer.MAX_VALUE, BigDecimal.TEN, 0);
+
+    private final int score;
+    private final BigDecimal rating;
+    private final long id;
+
+    public PageCursor(int score, BigDecimal rating, long id) {
+        this.score = score;
+        this.rating = rating != null ? rating : BigDecimal.ZERO;
+        this.id = id;
+    }
+
+    public static PageCursor first() {
+        return FIRST;
+    }
+
+    /** Decodes a token from {@link #encode}; null or empty means the first page. */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isEmpty()) return FIRST;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) throw new IllegalArgumentException("Invalid cursor");
+            return new PageCursor(Integer.parseInt(parts[1]), new BigDecimal(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = VERSION + "|" + score + "|" + rating.toPlainString() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** True if a row with this sort key belongs after the cursor. */
+    public boolean isAfter(int rowScore, double rowRating, long rowId) {
+        if (rowScore != score) return rowScore < score;
+        int byRating = Double.compare(rowRating, rating.doubleValue());
+        if (byRating != 0) return byRating < 0;
+        return rowId > id;
+    }
+
+    public int getScore() { return score; }
+
+    public BigDecimal getRating() { return rating; }
+
+    public long getId() { return id; }
+}
@@ -0,0 +1,61 @@
+package com.travelplanner.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket shared by every thread calling the same upstream provider.
+ * Callers reserve the next free slot and sleep outside the lock, so concurrent
+ * lookups are spread evenly over the provider's quota instead of bursting past it.
+ */
+public class TokenBucketRateLimiter {
+
+    private final String name;
+    private final double capacity;
+    private final double nanosPerToken;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(String name, double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive for " + name);
+        }
+        this.name = name;
+        this.capacity = Math.max(1, burst);
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public String getName() { return name; }
+
+    /** Blocks until a permit is available. */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(Long.MAX_VALUE);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /** Waits at most {@code timeout} for a permit; returns false without consuming one otherwise. */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long waitNanos = reserve(unit.toNanos(timeout));
+        if (waitNanos < 0) return false;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+
+    private synchronized long reserve(long maxWaitNanos) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+
+        // Tokens may go negative: the debt is the queue of callers already waiting.
+        long waitNanos = tokens >= 1 ? 0 : (long) ((1 - tokens) * nanosPerToken);
+        if (waitNanos > maxWaitNanos) return -1;
+        tokens -= 1;
+        return waitNanos;
+    }
+}
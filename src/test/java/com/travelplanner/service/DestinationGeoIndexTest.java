@@ -0,0 +1,84 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.travelplanner.entity.Destination;
+import com.travelplanner.event.DestinationChangedEvent;
+import com.travelplanner.util.GeoUtils;
+
+class DestinationGeoIndexTest {
+
+    private DestinationGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinationGeoIndex(1.0);
+    }
+
+    @Test
+    void findsDestinationsWithinTheRadiusNearestFirst() {
+        add(1L, 48.8566, 2.3522);   // Paris
+        add(2L, 48.8049, 2.1204);   // Versailles
+        add(3L, 51.5074, -0.1278);  // London
+
+        List<DestinationGeoIndex.Nearby> found = index.nearby(48.8584, 2.2945, 50, 10);
+
+        assertThat(found).extracting(DestinationGeoIndex.Nearby::getId).containsExactly(1L, 2L);
+        assertThat(found.get(0).getDistanceKm()).isCloseTo(GeoUtils.distanceKm(48.8584, 2.2945, 48.8566, 2.3522), within(1e-9));
+        assertThat(index.nearby(48.8584, 2.2945, 50, 1)).extracting(DestinationGeoIndex.Nearby::getId).containsExactly(1L);
+    }
+
+    @Test
+    void wrapsAcrossTheAntimeridian() {
+        add(1L, -16.5, -179.9);
+        add(2L, -16.5, 179.8);
+
+        assertThat(index.nearby(-16.5, 179.9, 50, 10)).extracting(DestinationGeoIndex.Nearby::getId).containsExactly(2L, 1L);
+        assertThat(index.nearby(-16.5, -179.95, 50, 10)).extracting(DestinationGeoIndex.Nearby::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void coversEveryColumnNearThePole() {
+        add(1L, 89.5, 0);
+        add(2L, 89.5, 180);
+
+        assertThat(index.nearby(89.9, 90, 200, 10)).extracting(DestinationGeoIndex.Nearby::getId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void searchesEveryLongitudeWhenTheCircleCrossesAPole() {
+        // Across the pole from the query point: 7 degrees of arc, about 778 km
+        add(1L, 88, 180);
+        add(2L, -88, 0);
+
+        assertThat(index.nearby(85, 0, 800, 10)).extracting(DestinationGeoIndex.Nearby::getId).containsExactly(1L);
+        assertThat(index.nearby(-85, 180, 800, 10)).extracting(DestinationGeoIndex.Nearby::getId).containsExactly(2L);
+    }
+
+    @Test
+    void followsMovesAndDeletes() {
+        add(1L, 48.8566, 2.3522);
+        add(2L, 48.8049, 2.1204);
+
+        add(1L, 35.6762, 139.6503);
+        index.onDestinationChanged(DestinationChangedEvent.deleted(2L));
+
+        assertThat(index.nearby(48.8566, 2.3522, 50, 10)).isEmpty();
+        assertThat(index.nearby(35.6762, 139.6503, 10, 10)).extracting(DestinationGeoIndex.Nearby::getId).containsExactly(1L);
+    }
+
+    private void add(Long id, double lat, double lon) {
+        Destination destination = new Destination();
+        destination.setId(id);
+        destination.setLatitude(BigDecimal.valueOf(lat));
+        destination.setLongitude(BigDecimal.valueOf(lon));
+        index.onDestinationChanged(new DestinationChangedEvent(destination));
+    }
+}
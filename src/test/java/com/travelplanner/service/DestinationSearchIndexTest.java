@@ -0,0 +1,94 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.travelplanner.entity.Destination;
+import com.travelplanner.event.DestinationChangedEvent;
+
+class DestinationSearchIndexTest {
+
+    private DestinationSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinationSearchIndex();
+        ReflectionTestUtils.setField(index, "fuzzyBudgetMs", 1000L);
+        ReflectionTestUtils.setField(index, "fuzzyMaxCandidates", 200);
+        ReflectionTestUtils.setField(index, "fuzzyMaxResults", 20);
+
+        index.onDestinationChanged(new DestinationChangedEvent(destination(1L, "Colosseum", "Rome", "Italy", Destination.Category.HISTORY, "4.8")));
+        index.onDestinationChanged(new DestinationChangedEvent(destination(2L, "Santorini", "Thira", "Greece", Destination.Category.BEACH, "4.7")));
+        index.onDestinationChanged(new DestinationChangedEvent(destination(3L, "Roman Forum", "Rome", "Italy", Destination.Category.HISTORY, "4.5")));
+        index.onDestinationChanged(new DestinationChangedEvent(destination(4L, "Café de Flore", "Paris", "France", Destination.Category.CULTURE, "4.1")));
+    }
+
+    @Test
+    void editDistanceCountsAdjacentTranspositionsOnce() {
+        assertThat(DestinationSearchIndex.editDistance("santorini", "santorini", 2)).isZero();
+        assertThat(DestinationSearchIndex.editDistance("santorni", "santorini", 2)).isEqualTo(1);
+        assertThat(DestinationSearchIndex.editDistance("santroini", "santorini", 2)).isEqualTo(1);
+        assertThat(DestinationSearchIndex.editDistance("colloseum", "colosseum", 2)).isEqualTo(2);
+    }
+
+    @Test
+    void editDistanceGivesUpPastTheLimit() {
+        assertThat(DestinationSearchIndex.editDistance("paris", "lisbon", 1)).isEqualTo(2);
+        assertThat(DestinationSearchIndex.editDistance("rome", "amsterdam", 2)).isEqualTo(3);
+    }
+
+    @Test
+    void searchRanksNameMatchesAboveCityMatches() {
+        List<DestinationSearchIndex.Hit> hits = index.search("Rom", null);
+
+        // "Roman Forum" is a name prefix; the Colosseum only matches through its city
+        assertThat(hits).extracting(DestinationSearchIndex.Hit::getId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void searchIgnoresCaseAndAccentsAndHonoursTheCategory() {
+        assertThat(index.search("CAFE", null)).extracting(DestinationSearchIndex.Hit::getId).containsExactly(4L);
+        assertThat(index.search("italy", Destination.Category.BEACH)).isEmpty();
+        assertThat(index.search("italy", Destination.Category.HISTORY)).hasSize(2);
+    }
+
+    @Test
+    void searchReflectsUpdatesAndDeletes() {
+        index.onDestinationChanged(new DestinationChangedEvent(destination(2L, "Oia", "Santorini", "Greece", Destination.Category.BEACH, "4.7")));
+        index.onDestinationChanged(DestinationChangedEvent.deleted(1L));
+
+        assertThat(index.search("oia", null)).extracting(DestinationSearchIndex.Hit::getId).containsExactly(2L);
+        assertThat(index.search("colosseum", null)).isEmpty();
+    }
+
+    @Test
+    void fuzzySearchFindsMisspellings() {
+        assertThat(index.search("Colloseum", null)).isEmpty();
+
+        assertThat(index.fuzzySearch("Colloseum", null)).extracting(DestinationSearchIndex.Hit::getId).containsExactly(1L);
+        assertThat(index.fuzzySearch("Santorni", null)).extracting(DestinationSearchIndex.Hit::getId).containsExactly(2L);
+    }
+
+    @Test
+    void fuzzySearchSkipsShortTerms() {
+        assertThat(index.fuzzySearch("Rme", null)).isEmpty();
+    }
+
+    private static Destination destination(Long id, String name, String city, String country,
+            Destination.Category category, String rating) {
+        Destination destination = new Destination();
+        destination.setId(id);
+        destination.setName(name);
+        destination.setCity(city);
+        destination.setCountry(country);
+        destination.setCategory(category);
+        destination.setAverageRating(new BigDecimal(rating));
+        return destination;
+    }
+}
@@ -0,0 +1,74 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.travelplanner.dto.DestinationSuggestion;
+import com.travelplanner.entity.Destination;
+import com.travelplanner.event.DestinationChangedEvent;
+
+class DestinationSuggestIndexTest {
+
+    private DestinationSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DestinationSuggestIndex();
+        ReflectionTestUtils.setField(index, "ready", true);
+
+        index.onDestinationChanged(new DestinationChangedEvent(destination(1L, "Sagrada Familia", "Barcelona", "Spain", "4.8")));
+        index.onDestinationChanged(new DestinationChangedEvent(destination(2L, "Santorini", "Thira", "Greece", "4.7")));
+        index.onDestinationChanged(new DestinationChangedEvent(destination(3L, "San Sebastián", "San Sebastián", "Spain", "4.6")));
+    }
+
+    @Test
+    void suggestsWordPrefixesHighestRatedFirst() {
+        assertThat(index.suggest("sa", 10)).extracting(DestinationSuggestion::getId).containsExactly(1L, 2L, 3L);
+        assertThat(index.suggest("sa", 2)).extracting(DestinationSuggestion::getId).containsExactly(1L, 2L);
+        assertThat(index.suggest("fam", 10)).extracting(DestinationSuggestion::getId).containsExactly(1L);
+        assertThat(index.suggest("Sebasti", 10)).extracting(DestinationSuggestion::getId).containsExactly(3L);
+    }
+
+    @Test
+    void mergeReplacesTheKeysOfAnUpdatedDestination() {
+        index.onDestinationChanged(new DestinationChangedEvent(destination(2L, "Oia", "Santorini", "Greece", "4.9")));
+
+        assertThat(index.suggest("oia", 10)).extracting(DestinationSuggestion::getId).containsExactly(2L);
+        assertThat(index.suggest("thira", 10)).isEmpty();
+        // Matched through its city now, and ranked by the new rating
+        assertThat(index.suggest("sa", 10)).extracting(DestinationSuggestion::getId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void mergeDropsADeletedDestination() {
+        index.onDestinationChanged(DestinationChangedEvent.deleted(1L));
+
+        assertThat(index.suggest("sa", 10)).extracting(DestinationSuggestion::getId).containsExactly(2L, 3L);
+        assertThat(index.suggest("barcelona", 10)).isEmpty();
+        assertThat(index.suggest("spain", 10)).extracting(DestinationSuggestion::getId).containsExactly(3L);
+    }
+
+    @Test
+    void ignoresChangesBeforeTheFirstBuild() {
+        DestinationSuggestIndex fresh = new DestinationSuggestIndex();
+
+        fresh.onDestinationChanged(new DestinationChangedEvent(destination(1L, "Sagrada Familia", "Barcelona", "Spain", "4.8")));
+
+        assertThat(fresh.suggest("sa", 10)).isEmpty();
+    }
+
+    private static Destination destination(Long id, String name, String city, String country, String rating) {
+        Destination destination = new Destination();
+        destination.setId(id);
+        destination.setName(name);
+        destination.setCity(city);
+        destination.setCountry(country);
+        destination.setAverageRating(new BigDecimal(rating));
+        return destination;
+    }
+}
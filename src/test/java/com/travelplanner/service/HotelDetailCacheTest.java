@@ -0,0 +1,76 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.travelplanner.dto.HotelDetail;
+
+class HotelDetailCacheTest {
+
+    @TempDir
+    Path spillDir;
+
+    private ExecutorService spillExecutor;
+    private HotelDetailCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        spillExecutor = Executors.newSingleThreadExecutor();
+        cache = new HotelDetailCache();
+        ReflectionTestUtils.setField(cache, "hotelSpillExecutor", spillExecutor);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "freshMinutes", 60L);
+        ReflectionTestUtils.setField(cache, "spillDir", spillDir.toString());
+        ReflectionTestUtils.setField(cache, "spillMaxFiles", 10);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+    }
+
+    @AfterEach
+    void tearDown() {
+        spillExecutor.shutdownNow();
+    }
+
+    private static HotelDetail detail(String xid) {
+        return new HotelDetail(xid, "Hotel " + xid, "Street 1", 48.85, 2.35, 4.5, null);
+    }
+
+    private void drainSpills() throws Exception {
+        spillExecutor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void evictedDetailsArePromotedBackFromDisk() throws Exception {
+        cache.put("N1", detail("N1"));
+        cache.put("N2", detail("N2"));
+        cache.put("N3", detail("N3"));
+        drainSpills();
+
+        HotelDetail promoted = cache.get("N1", xid -> {
+            throw new AssertionError("should not reach the provider");
+        });
+
+        assertThat(promoted.getName()).isEqualTo("Hotel N1");
+        assertThat(spillDir.resolve("N1.json")).doesNotExist();
+    }
+
+    @Test
+    void spillDirectoryStaysWithinItsCap() throws Exception {
+        for (int i = 0; i < 40; i++) cache.put("N" + i, detail("N" + i));
+        drainSpills();
+
+        try (var files = Files.list(spillDir)) {
+            assertThat(files.count()).isLessThanOrEqualTo(10);
+        }
+    }
+}
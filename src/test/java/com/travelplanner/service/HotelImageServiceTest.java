@@ -0,0 +1,80 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.travelplanner.entity.HotelImageCacheEntry;
+import com.travelplanner.repository.HotelImageCacheRepository;
+import com.travelplanner.service.provider.ImageProvider;
+
+class HotelImageServiceTest {
+
+    private final AtomicInteger reads = new AtomicInteger();
+    private final List<HotelImageCacheEntry> persisted = new ArrayList<>();
+    private HotelImageService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Only findAllById and save are used; anything else fails the test
+        HotelImageCacheRepository repository = (HotelImageCacheRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { HotelImageCacheRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllById" -> {
+                        reads.incrementAndGet();
+                        Collection<?> tokens = (Collection<?>) args[0];
+                        yield persisted.stream().filter(entry -> tokens.contains(entry.getToken())).toList();
+                    }
+                    case "save" -> {
+                        persisted.add((HotelImageCacheEntry) args[0]);
+                        yield args[0];
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        ImageProxyService imageProxyService = new ImageProxyService();
+        ReflectionTestUtils.setField(imageProxyService, "enabled", false);
+
+        service = new HotelImageService();
+        ReflectionTestUtils.setField(service, "imageProvider", (ImageProvider)
+                query -> "https://images.unsplash.com/" + query.replace(' ', '-'));
+        ReflectionTestUtils.setField(service, "imageProxyService", imageProxyService);
+        ReflectionTestUtils.setField(service, "hotelImageCacheRepository", repository);
+        ReflectionTestUtils.setField(service, "batchSize", 10);
+        ReflectionTestUtils.setField(service, "maxPending", 10);
+        ReflectionTestUtils.setField(service, "cacheSize", 10);
+        ReflectionTestUtils.invokeMethod(service, "init");
+    }
+
+    @Test
+    void pendingTokensDoNotReadTheDatabaseAgain() {
+        String token = service.tokenFor("Hotel Roma", "Via Roma 1");
+
+        assertThat(service.imageUrlOrPlaceholder(token, "Hotel Roma", "Via Roma 1")).isEqualTo(HotelImageService.PLACEHOLDER_IMAGE);
+        assertThat(service.imageUrlOrPlaceholder(token, "Hotel Roma", "Via Roma 1")).isEqualTo(HotelImageService.PLACEHOLDER_IMAGE);
+
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void resolvedTokensAreServedAndAnsweredByToken() {
+        String token = service.tokenFor("Hotel Roma", "Via Roma 1");
+        service.imageUrlOrPlaceholder(token, "Hotel Roma", "Via Roma 1");
+
+        service.resolvePendingBatch();
+
+        assertThat(service.imageUrlOrPlaceholder(token, "Hotel Roma", "Via Roma 1"))
+                .isEqualTo("https://images.unsplash.com/Hotel-Roma-Via-Roma-1");
+        assertThat(service.resolvedUrls(List.of(token, "unknown")))
+                .containsOnlyKeys(token);
+        assertThat(persisted).extracting(HotelImageCacheEntry::getToken).containsExactly(token);
+    }
+}
@@ -0,0 +1,25 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class HotelServiceTest {
+
+    @Test
+    void centroidAveragesLongitudeAcrossTheAntimeridian() {
+        double[] center = HotelService.centroid(new double[] { -17, -19 }, new double[] { 179, -179 }, new int[] { 0, 1 });
+
+        assertThat(center[0]).isCloseTo(-18, within(1e-9));
+        assertThat(Math.abs(center[1])).isCloseTo(180, within(1e-9));
+    }
+
+    @Test
+    void centroidMatchesTheArithmeticMeanAwayFromTheAntimeridian() {
+        double[] center = HotelService.centroid(new double[] { 48.85, 48.87 }, new double[] { 2.30, 2.40 }, new int[] { 0, 1 });
+
+        assertThat(center[0]).isCloseTo(48.86, within(1e-9));
+        assertThat(center[1]).isCloseTo(2.35, within(1e-6));
+    }
+}
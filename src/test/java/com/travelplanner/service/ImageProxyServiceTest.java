@@ -0,0 +1,159 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.SpringHandlerInstantiator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelplanner.dto.HotelResponse;
+
+class ImageProxyServiceTest {
+
+    private static final String UPSTREAM = "https://upload.wikimedia.org/wikipedia/commons/a/a1/Rome.jpg";
+
+    @TempDir
+    Path cacheDir;
+
+    private ImageProxyService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new ImageProxyService();
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "publicBaseUrl", "");
+        ReflectionTestUtils.setField(service, "serverPort", 8080);
+        ReflectionTestUtils.setField(service, "cacheDir", cacheDir.toString());
+        ReflectionTestUtils.setField(service, "maxCacheMb", 1L);
+        ReflectionTestUtils.setField(service, "maxImageBytes", 1024L);
+        ReflectionTestUtils.setField(service, "allowedHosts", List.of("wikimedia.org", "unsplash.com"));
+        ReflectionTestUtils.setField(service, "maxRedirects", 3);
+        ReflectionTestUtils.setField(service, "maxSources", 10);
+        service.init();
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void proxiedUrlIsRelativeSoItCanBeStored() {
+        String proxied = service.proxiedUrl(UPSTREAM);
+
+        assertThat(proxied).matches("/api/images/[0-9a-f]{32}");
+        assertThat(service.proxiedUrl(proxied)).isEqualTo(proxied);
+    }
+
+    @Test
+    void absoluteUrlUsesTheCurrentRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setScheme("http");
+        request.setServerName("api.local");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(service.absoluteUrl(service.proxiedUrl(UPSTREAM))).matches("http://api\\.local:8080/api/images/[0-9a-f]{32}");
+    }
+
+    @Test
+    void absoluteUrlPrefersTheConfiguredBaseUrl() {
+        ReflectionTestUtils.setField(service, "publicBaseUrl", "https://api.example.com");
+
+        assertThat(service.absoluteUrl(service.proxiedUrl(UPSTREAM))).matches("https://api\\.example\\.com/api/images/[0-9a-f]{32}");
+    }
+
+    @Test
+    void absoluteUrlUsesTheBoundBaseUrlOffTheRequestThread() throws Exception {
+        String proxied = service.proxiedUrl(UPSTREAM);
+        String[] written = new String[1];
+
+        service.withBaseUrl("https://client.example", () -> written[0] = service.absoluteUrl(proxied));
+
+        assertThat(written[0]).isEqualTo("https://client.example" + proxied);
+        assertThat(service.absoluteUrl(proxied)).isEqualTo("http://localhost:8080" + proxied);
+    }
+
+    @Test
+    void absoluteUrlLeavesOtherValuesAlone() {
+        assertThat(service.absoluteUrl("deaultHotel.jpg")).isEqualTo("deaultHotel.jpg");
+        assertThat(service.absoluteUrl("https://evilwikimedia.org/a.jpg")).isEqualTo("https://evilwikimedia.org/a.jpg");
+        assertThat(service.absoluteUrl(null)).isNull();
+    }
+
+    @Test
+    void responsesSerializeImageUrlsAgainstTheRequestOrigin() throws Exception {
+        ReflectionTestUtils.setField(service, "publicBaseUrl", "https://api.example.com");
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutowiredAnnotationBeanPostProcessor autowiring = new AutowiredAnnotationBeanPostProcessor();
+        autowiring.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiring);
+        beanFactory.registerSingleton("imageProxyService", service);
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setHandlerInstantiator(new SpringHandlerInstantiator(beanFactory));
+
+        HotelResponse hotel = new HotelResponse();
+        hotel.setImageUrl(service.proxiedUrl(UPSTREAM));
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(hotel));
+
+        assertThat(json.get("imageUrl").asText()).isEqualTo("https://api.example.com" + hotel.getImageUrl());
+        assertThat(hotel.toJson().getString("imageUrl")).startsWith("/api/images/");
+    }
+
+    @Test
+    void proxiedUrlLeavesPlaceholdersAlone() {
+        assertThat(service.proxiedUrl("/placeholder.svg")).isEqualTo("/placeholder.svg");
+        assertThat(service.proxiedUrl(null)).isNull();
+    }
+
+    @Test
+    void proxiedUrlLeavesUnknownHostsAlone() {
+        assertThat(service.proxiedUrl("http://169.254.169.254/latest/meta-data/"))
+                .isEqualTo("http://169.254.169.254/latest/meta-data/");
+        assertThat(service.proxiedUrl("https://evilwikimedia.org/a.jpg")).isEqualTo("https://evilwikimedia.org/a.jpg");
+    }
+
+    @Test
+    void allowedHostsMatchSubdomainsOnly() {
+        assertThat(service.isAllowedHost(UPSTREAM)).isTrue();
+        assertThat(service.isAllowedHost("https://images.unsplash.com/photo-1")).isTrue();
+        assertThat(service.isAllowedHost("https://unsplash.com.attacker.net/x.jpg")).isFalse();
+        assertThat(service.isAllowedHost("file:///etc/passwd")).isFalse();
+    }
+
+    @Test
+    void privateAndLinkLocalAddressesAreNotPublic() throws Exception {
+        for (String address : new String[] { "127.0.0.1", "10.1.2.3", "172.16.0.1", "192.168.1.1",
+                "169.254.169.254", "100.64.0.1", "0.0.0.0", "::1", "fe80::1", "fd00::1" }) {
+            assertThat(ImageProxyService.isPublicAddress(InetAddress.getByName(address))).as(address).isFalse();
+        }
+        assertThat(ImageProxyService.isPublicAddress(InetAddress.getByName("93.184.216.34"))).isTrue();
+        assertThat(ImageProxyService.isPublicAddress(InetAddress.getByName("2606:2800:220:1::1"))).isTrue();
+    }
+
+    @Test
+    void sourcesArePrunedPastTheLimit() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            service.proxiedUrl("https://upload.wikimedia.org/" + i + ".jpg");
+        }
+
+        try (var files = Files.list(cacheDir.resolve("sources"))) {
+            assertThat(files.count()).isLessThanOrEqualTo(10);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private ImageVariantService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageVariantService();
+        ReflectionTestUtils.setField(service, "maxPixels", 10_000L);
+    }
+
+    private Path png(int width, int height) throws Exception {
+        Path file = dir.resolve(width + "x" + height + ".png");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+        return file;
+    }
+
+    @Test
+    void decodesWithinBudgetAtFullSize() throws Exception {
+        BufferedImage image = service.decode(png(100, 50), 40);
+
+        assertThat(image.getWidth()).isEqualTo(100);
+        assertThat(image.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void subsamplesImagesOverThePixelBudget() throws Exception {
+        BufferedImage image = service.decode(png(400, 100), 40);
+
+        assertThat((long) image.getWidth() * image.getHeight()).isLessThanOrEqualTo(10_000L);
+        assertThat(image.getWidth()).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    void skipsImagesThatCannotFitWithoutGoingBelowTheTargetWidth() throws Exception {
+        assertThat(service.decode(png(200, 2000), 160)).isNull();
+    }
+
+    @Test
+    void skipsImagesNoWiderThanTheTarget() throws Exception {
+        assertThat(service.decode(png(100, 50), 160)).isNull();
+    }
+}
@@ -0,0 +1,65 @@
+package com.travelplanner.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReplayTransportTest {
+
+    private static final URI SEARCH =
+            URI.create("https://api.opentripmap.com/0.1/en/places/radius?radius=8000&lat=1&apikey=secret");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysRecordedBodiesRegardlessOfCredentials() throws Exception {
+        ProviderRecordings recordings = new ProviderRecordings(dir.toString());
+        recordings.write("opentripmap", SEARCH, "[{\"xid\":\"N1\"}]");
+        ReplayTransport transport = new ReplayTransport(recordings, new ReplayFaults(0, 0, 0));
+
+        URI rotatedKey = URI.create(SEARCH.toString().replace("secret", "rotated"));
+        HttpResponse<String> res = transport.send("opentripmap",
+                HttpRequest.newBuilder(rotatedKey).build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(res.statusCode()).isEqualTo(200);
+        assertThat(res.body()).isEqualTo("[{\"xid\":\"N1\"}]");
+    }
+
+    @Test
+    void answers404WhenNothingWasRecorded() throws Exception {
+        ReplayTransport transport = new ReplayTransport(new ProviderRecordings(dir.toString()), new ReplayFaults(0, 0, 0));
+
+        HttpResponse<String> res = transport.send("opentripmap",
+                HttpRequest.newBuilder(SEARCH).build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(res.statusCode()).isEqualTo(404);
+        assertThat(res.body()).isEmpty();
+    }
+
+    @Test
+    void injectsRateLimitResponses() throws Exception {
+        ProviderRecordings recordings = new ProviderRecordings(dir.toString());
+        recordings.write("opentripmap", SEARCH, "[]");
+        ReplayTransport transport = new ReplayTransport(recordings, new ReplayFaults(0, 0, 1.0));
+
+        HttpResponse<String> res = transport.send("opentripmap",
+                HttpRequest.newBuilder(SEARCH).build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(res.statusCode()).isEqualTo(429);
+    }
+
+    @Test
+    void requestKeysDropCredentials() {
+        assertThat(ProviderRecordings.requestKey(SEARCH))
+                .isEqualTo("api.opentripmap.com/0.1/en/places/radius?radius=8000&lat=1");
+        assertThat(ProviderRecordings.requestKey(URI.create("https://api.unsplash.com/search/photos?client_id=k")))
+                .isEqualTo("api.unsplash.com/search/photos");
+    }
+}
@@ -0,0 +1,70 @@
+package com.travelplanner.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedBodySubscriberTest {
+
+    private static final class RecordingSubscription implements Flow.Subscription {
+        boolean cancelled;
+
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() { cancelled = true; }
+    }
+
+    private static List<ByteBuffer> chunk(String text) {
+        return List.of(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void passesBodiesWithinTheLimitThrough() throws Exception {
+        BoundedBodySubscriber<String> subscriber = new BoundedBodySubscriber<>(
+                HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), 10, false);
+        RecordingSubscription subscription = new RecordingSubscription();
+
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(chunk("hello"));
+        subscriber.onNext(chunk("world"));
+        subscriber.onComplete();
+
+        assertThat(subscriber.getBody().toCompletableFuture().get()).isEqualTo("helloworld");
+        assertThat(subscription.cancelled).isFalse();
+    }
+
+    @Test
+    void cancelsOnceTheStreamedBodyPassesTheLimit() throws Exception {
+        BoundedBodySubscriber<String> subscriber = new BoundedBodySubscriber<>(
+                HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), 8, false);
+        RecordingSubscription subscription = new RecordingSubscription();
+
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(chunk("hello"));
+        subscriber.onNext(chunk("world"));
+        subscriber.onNext(chunk("ignored"));
+
+        assertThat(subscription.cancelled).isTrue();
+        assertThat(subscriber.getBody().toCompletableFuture().get()).isNull();
+    }
+
+    @Test
+    void cancelsBeforeReadingWhenContentLengthIsOverTheLimit() throws Exception {
+        BoundedBodySubscriber<String> subscriber = new BoundedBodySubscriber<>(
+                HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), 8, true);
+        RecordingSubscription subscription = new RecordingSubscription();
+
+        subscriber.onSubscribe(subscription);
+
+        assertThat(subscription.cancelled).isTrue();
+        assertThat(subscriber.getBody().toCompletableFuture().get()).isNull();
+    }
+}
@@ -0,0 +1,101 @@
+package com.travelplanner.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 60_000);
+
+        breaker.onFailure(breaker.tryAcquirePermission());
+        breaker.onFailure(breaker.tryAcquirePermission());
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.onFailure(breaker.tryAcquirePermission());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isNull();
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 60_000);
+
+        breaker.onFailure(breaker.tryAcquirePermission());
+        breaker.onSuccess(breaker.tryAcquirePermission());
+        breaker.onFailure(breaker.tryAcquirePermission());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void lateSuccessDoesNotCloseAnOpenCircuit() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 60_000);
+        CircuitBreaker.Permit late = breaker.tryAcquirePermission();
+        breaker.onFailure(breaker.tryAcquirePermission());
+
+        breaker.onSuccess(late);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isNull();
+    }
+
+    @Test
+    void letsOneProbeThroughOnceTheOpenPeriodPasses() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.onFailure(breaker.tryAcquirePermission());
+
+        assertThat(breaker.tryAcquirePermission()).isNotNull();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isNull();
+    }
+
+    @Test
+    void successfulProbeCloses() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.onFailure(breaker.tryAcquirePermission());
+        CircuitBreaker.Permit probe = breaker.tryAcquirePermission();
+
+        breaker.onSuccess(probe);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isNotNull();
+    }
+
+    @Test
+    void lateResultsDuringHalfOpenLeaveTheDecisionToTheProbe() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 0);
+        CircuitBreaker.Permit lateSuccess = breaker.tryAcquirePermission();
+        CircuitBreaker.Permit lateFailure = breaker.tryAcquirePermission();
+        breaker.onFailure(breaker.tryAcquirePermission());
+        breaker.onFailure(breaker.tryAcquirePermission());
+        CircuitBreaker.Permit probe = breaker.tryAcquirePermission();
+
+        breaker.onSuccess(lateSuccess);
+        breaker.onFailure(lateFailure);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isNull();
+
+        breaker.onFailure(probe);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void failedProbeReopens() {
+        CircuitBreaker breaker = new CircuitBreaker(5, 60_000);
+        for (int i = 0; i < 5; i++) breaker.onFailure(breaker.tryAcquirePermission());
+        // Moves the open timestamp into the past instead of sleeping through openMillis
+        ReflectionTestUtils.setField(breaker, "openedAtMillis", 0L);
+        CircuitBreaker.Permit probe = breaker.tryAcquirePermission();
+
+        breaker.onFailure(probe);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isNull();
+    }
+}
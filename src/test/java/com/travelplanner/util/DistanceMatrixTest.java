@@ -0,0 +1,70 @@
+package com.travelplanner.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class DistanceMatrixTest {
+
+    @Test
+    void distancesMatchGeoUtils() {
+        DistanceMatrix matrix = new DistanceMatrix(new double[] { 48.8566, 51.5074 }, new double[] { 2.3522, -0.1278 }, 1);
+        int row = matrix.addRow(50.8503, 4.3517);
+
+        assertThat(matrix.distance(row, 0)).isCloseTo(GeoUtils.distanceKm(50.8503, 4.3517, 48.8566, 2.3522), within(1e-6));
+        assertThat(matrix.distance(row, 1)).isCloseTo(GeoUtils.distanceKm(50.8503, 4.3517, 51.5074, -0.1278), within(1e-6));
+        assertThat(matrix.average(row)).isCloseTo((matrix.distance(row, 0) + matrix.distance(row, 1)) / 2, within(1e-9));
+    }
+
+    @Test
+    void topKMatchesAFullSortAndGrowsPastTheExpectedRows() {
+        DistanceMatrix matrix = new DistanceMatrix(new double[] { 48.8566 }, new double[] { 2.3522 }, 4);
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            matrix.addRow(48 + random.nextDouble() * 2, 1 + random.nextDouble() * 2);
+        }
+
+        int[] expected = IntStream.range(0, matrix.rows()).boxed()
+                .sorted(Comparator.comparingDouble(matrix::average))
+                .limit(10)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        assertThat(matrix.rows()).isEqualTo(200);
+        assertThat(matrix.topK(10)).containsExactly(expected);
+    }
+
+    @Test
+    void tiesKeepInsertionOrder() {
+        DistanceMatrix matrix = new DistanceMatrix(new double[] { 0 }, new double[] { 0 }, 4);
+        matrix.addRow(1, 1);
+        matrix.addRow(0.5, 0.5);
+        matrix.addRow(1, 1);
+        matrix.addRow(1, 1);
+
+        assertThat(matrix.topK(3)).containsExactly(1, 0, 2);
+    }
+
+    @Test
+    void topKIsBoundedByTheRowCount() {
+        DistanceMatrix matrix = new DistanceMatrix(new double[] { 0 }, new double[] { 0 }, 2);
+        matrix.addRow(1, 1);
+
+        assertThat(matrix.topK(5)).containsExactly(0);
+        assertThat(matrix.topK(0)).isEmpty();
+        assertThat(Arrays.stream(new DistanceMatrix(new double[] { 0 }, new double[] { 0 }, 1).topK(3))).isEmpty();
+    }
+
+    @Test
+    void rejectsMismatchedDestinations() {
+        assertThatThrownBy(() -> new DistanceMatrix(new double[] { 0, 1 }, new double[] { 0 }, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.travelplanner.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class GeoClusteringTest {
+
+    @Test
+    void separatesDistantCities() {
+        // Paris, Versailles, Tokyo
+        double[] lats = { 48.8566, 48.8049, 35.6762 };
+        double[] lons = { 2.3522, 2.1204, 139.6503 };
+
+        List<int[]> clusters = GeoClustering.clusterByDistance(lats, lons, 50);
+
+        assertThat(clusters).hasSize(2);
+        assertThat(clusters.get(0)).containsExactly(0, 1);
+        assertThat(clusters.get(1)).containsExactly(2);
+    }
+
+    @Test
+    void linksChainsOfNearbyPoints() {
+        // Each point is ~11 km from the next, so the ends are ~33 km apart
+        double[] lats = { 0, 0.1, 0.2, 0.3 };
+        double[] lons = { 0, 0, 0, 0 };
+
+        assertThat(GeoClustering.clusterByDistance(lats, lons, 12)).hasSize(1);
+        assertThat(GeoClustering.clusterByDistance(lats, lons, 10)).hasSize(4);
+    }
+
+    @Test
+    void clustersAcrossTheAntimeridian() {
+        double[] lats = { -17.0, -17.0 };
+        double[] lons = { 179.95, -179.95 };
+
+        assertThat(GeoClustering.clusterByDistance(lats, lons, 20)).hasSize(1);
+    }
+
+    @Test
+    void clustersAreOrderedByTheirFirstPoint() {
+        double[] lats = { 35.6762, 48.8566, 35.6800 };
+        double[] lons = { 139.6503, 2.3522, 139.6600 };
+
+        List<int[]> clusters = GeoClustering.clusterByDistance(lats, lons, 50);
+
+        assertThat(clusters.get(0)).containsExactly(0, 2);
+        assertThat(clusters.get(1)).containsExactly(1);
+    }
+}
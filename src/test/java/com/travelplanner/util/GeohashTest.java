@@ -0,0 +1,37 @@
+package com.travelplanner.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class GeohashTest {
+
+    @Test
+    void encodesTheReferencePoint() {
+        assertThat(Geohash.encode(42.6, -5.6, 5)).isEqualTo("ezs42");
+    }
+
+    @Test
+    void nearbyPointsShareATile() {
+        assertThat(Geohash.encode(48.8566, 2.3522, 5)).isEqualTo(Geohash.encode(48.8570, 2.3530, 5));
+        assertThat(Geohash.encode(48.8566, 2.3522, 5)).isNotEqualTo(Geohash.encode(51.5074, -0.1278, 5));
+    }
+
+    @Test
+    void decodedCentreLiesInsideTheSameTile() {
+        String tile = Geohash.encode(48.8566, 2.3522, 5);
+        double[] center = Geohash.decodeCenter(tile);
+
+        assertThat(Geohash.encode(center[0], center[1], 5)).isEqualTo(tile);
+        // A precision-5 cell is about 4.9 km x 4.9 km
+        assertThat(center[0]).isCloseTo(48.8566, within(0.03));
+        assertThat(center[1]).isCloseTo(2.3522, within(0.03));
+    }
+
+    @Test
+    void rejectsCharactersOutsideTheAlphabet() {
+        assertThatThrownBy(() -> Geohash.decodeCenter("u09a")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.travelplanner.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsThroughTheToken() {
+        PageCursor cursor = new PageCursor(3, new BigDecimal("4.50"), 42);
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertThat(decoded.getScore()).isEqualTo(3);
+        assertThat(decoded.getRating()).isEqualByComparingTo("4.50");
+        assertThat(decoded.getId()).isEqualTo(42);
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void missingTokenMeansTheFirstPage() {
+        assertThat(PageCursor.decode(null)).isSameAs(PageCursor.first());
+        assertThat(PageCursor.decode("")).isSameAs(PageCursor.first());
+        assertThat(PageCursor.first().isAfter(1000, 5.0, 1)).isTrue();
+    }
+
+    @Test
+    void ordersByScoreThenRatingDescendingThenIdAscending() {
+        PageCursor cursor = new PageCursor(2, new BigDecimal("4.00"), 10);
+
+        assertThat(cursor.isAfter(1, 5.0, 1)).isTrue();
+        assertThat(cursor.isAfter(3, 0.0, 99)).isFalse();
+        assertThat(cursor.isAfter(2, 3.9, 1)).isTrue();
+        assertThat(cursor.isAfter(2, 4.1, 99)).isFalse();
+        assertThat(cursor.isAfter(2, 4.0, 11)).isTrue();
+        assertThat(cursor.isAfter(2, 4.0, 10)).isFalse();
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String wrongVersion = Base64.getUrlEncoder().encodeToString("v0|1|2|3".getBytes(StandardCharsets.UTF_8));
+        String notNumbers = Base64.getUrlEncoder().encodeToString("v1|a|b|c".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PageCursor.decode(wrongVersion)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(notNumbers)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
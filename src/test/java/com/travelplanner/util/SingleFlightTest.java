@@ -0,0 +1,83 @@
+package com.travelplanner.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<Integer> leader = pool.submit(() -> flights.execute("k", () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return 7;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<Integer> joiner = pool.submit(() -> flights.execute("k", () -> {
+                runs.incrementAndGet();
+                return -1;
+            }));
+            // Released only once the joiner is parked on the leader's call
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flights.waiting() != 1 && System.nanoTime() < deadline) Thread.onSpinWait();
+            assertThat(flights.waiting()).isEqualTo(1);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+            assertThat(joiner.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+            assertThat(runs.get()).isEqualTo(1);
+            assertThat(flights.waiting()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void nothingIsCachedAfterCompletion() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+
+        flights.execute("k", runs::incrementAndGet);
+        flights.execute("k", runs::incrementAndGet);
+
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    @Test
+    void failuresPropagateAndClearTheKey() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+
+        assertThatThrownBy(() -> flights.execute("k", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(flights.inFlight()).isZero();
+        assertThat(flights.execute("k", () -> 1)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.travelplanner.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void allowsTheBurstWithoutWaiting() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    @Test
+    void refusedAttemptsDoNotConsumeAPermit() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 20, 1);
+        limiter.acquire();
+
+        assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isFalse();
+        // One token refills every 50 ms; the refusal above must not have pushed that back
+        assertThat(limiter.tryAcquire(200, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    void spacesCallsPastTheBurstAtTheConfiguredRate() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 50, 1);
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    void rejectsNonPositiveRates() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter("test", 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}